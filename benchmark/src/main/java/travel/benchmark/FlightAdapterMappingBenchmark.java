@@ -0,0 +1,95 @@
+package travel.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import travel.infra.adapter.FlightAdapter;
+import travel.infra.adapter.FlightSearchCache;
+import travel.infra.adapter.PortRegistry;
+import travel.infra.entity.FlightEntity;
+import travel.infra.entity.FlightRow;
+import travel.infra.repository.FlightRepository;
+import travel.infra.repository.PortRepository;
+import travel.model.Flight;
+import travel.query.RouteDayQuery;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static travel.benchmark.FlightFixtures.ANKARA;
+import static travel.benchmark.FlightFixtures.ISTANBUL;
+
+/**
+ * Measures what {@link FlightAdapter} does after the rows are loaded: the row-to-model
+ * mapping, next to the entity mapping it replaced. The repositories are stubbed with
+ * proxies that hand back prepared rows and the search cache is turned off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlightAdapterMappingBenchmark {
+    @Param({"10", "100", "1000"})
+    int flightsPerDay;
+
+    List<FlightEntity> entities;
+    List<FlightRow> rows;
+    FlightAdapter adapter;
+    RouteDayQuery query;
+
+    @Setup
+    public void setup() {
+        var departureDate = LocalDate.now().plusDays(7);
+        var portRepository = stub(PortRepository.class, (method, args) -> {
+            throw new UnsupportedOperationException(method);
+        });
+        var flightRepository = stub(FlightRepository.class, (method, args) -> switch (method) {
+            case "findAllByRoute" -> rows;
+            default -> throw new UnsupportedOperationException(method);
+        });
+
+        var flights = FlightFixtures.flights(ISTANBUL, ANKARA, departureDate, flightsPerDay);
+
+        entities = FlightFixtures.entities(flights);
+        rows = FlightFixtures.rows(flights);
+        adapter = new FlightAdapter(flightRepository, portRepository, null, new PortRegistry(portRepository, Duration.ofSeconds(5)),
+                new FlightSearchCache(0, Duration.ZERO), null, null);
+        query = RouteDayQuery.builder()
+                .departure(ISTANBUL)
+                .arrival(ANKARA)
+                .departureDate(departureDate)
+                .build();
+    }
+
+    @Benchmark
+    public List<Flight> entityToModel() {
+        return entities.stream()
+                .map(FlightEntity::toModel)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Flight> rowToModel() {
+        return rows.stream()
+                .map(row -> row.toModel(ISTANBUL, ANKARA))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Flight> getAvailableFlights() {
+        return adapter.getAvailableFlights(query);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, StubAnswer answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                method.getDeclaringClass() == Object.class ? method.invoke(answer, args) : answer.answer(method.getName(), args));
+    }
+
+    private interface StubAnswer {
+        Object answer(String method, Object[] args);
+    }
+}
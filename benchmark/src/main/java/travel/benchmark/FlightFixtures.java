@@ -0,0 +1,82 @@
+package travel.benchmark;
+
+import travel.infra.entity.FlightEntity;
+import travel.infra.entity.FlightRow;
+import travel.infra.entity.PortEntity;
+import travel.model.Flight;
+import travel.model.Port;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic flights for the benchmarks, so that runs on different commits see the
+ * same data.
+ */
+final class FlightFixtures {
+    static final Port ISTANBUL = Port.builder().id(UUID.nameUUIDFromBytes("istanbul".getBytes())).code(1).name("istanbul").build();
+    static final Port ANKARA = Port.builder().id(UUID.nameUUIDFromBytes("ankara".getBytes())).code(2).name("ankara").build();
+
+    private FlightFixtures() {
+    }
+
+    static List<Flight> flights(Port departure, Port arrival, LocalDate date, int count) {
+        var random = new Random(count);
+        var flights = new ArrayList<Flight>(count);
+
+        for (int i = 0; i < count; i++)
+            flights.add(Flight.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .departure(departure)
+                    .arrival(arrival)
+                    .departureTime(date.atStartOfDay().plusMinutes(random.nextInt(24 * 60)))
+                    .amount(50 + random.nextInt(50_000) / 100.0)
+                    .currency("TL")
+                    .build());
+
+        return flights;
+    }
+
+    static List<FlightEntity> entities(List<Flight> flights) {
+        var ports = new HashMap<UUID, PortEntity>();
+
+        return flights.stream()
+                .map(flight -> {
+                    var entity = new FlightEntity();
+
+                    entity.setId(flight.getId());
+                    entity.setDeparture(ports.computeIfAbsent(flight.getDeparture().getId(), id -> entity(flight.getDeparture())));
+                    entity.setArrival(ports.computeIfAbsent(flight.getArrival().getId(), id -> entity(flight.getArrival())));
+                    entity.setDepartureTime(flight.getDepartureTime());
+                    entity.setAmount(flight.getAmount());
+                    entity.setCurrency(flight.getCurrency());
+                    return entity;
+                })
+                .toList();
+    }
+
+    static List<FlightRow> rows(List<Flight> flights) {
+        return flights.stream()
+                .map(flight -> new FlightRow(
+                        flight.getId(),
+                        flight.getDeparture().getId(),
+                        flight.getArrival().getId(),
+                        flight.getDepartureTime(),
+                        flight.getAmount(),
+                        flight.getCurrency()))
+                .toList();
+    }
+
+    static PortEntity entity(Port port) {
+        var entity = new PortEntity();
+
+        entity.setId(port.getId());
+        entity.setCode(port.getCode());
+        entity.setName(port.getName());
+        return entity;
+    }
+}
@@ -0,0 +1,44 @@
+package travel.benchmark;
+
+import travel.command.FlightCreationCommand;
+import travel.model.Flight;
+import travel.port.FlightPort;
+import travel.query.RouteDayQuery;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flight port over a plain map, so handler benchmarks measure the handler and not a
+ * database round trip.
+ */
+class InMemoryFlightPort implements FlightPort {
+    private final Map<RouteDay, List<Flight>> flights = new HashMap<>();
+
+    void addAll(List<Flight> flights) {
+        for (Flight flight : flights)
+            this.flights.computeIfAbsent(
+                    new RouteDay(flight.getDeparture().getCode(), flight.getArrival().getCode(), flight.getDepartureTime().toLocalDate()),
+                    key -> new ArrayList<>()
+            ).add(flight);
+
+        this.flights.values().forEach(bucket -> bucket.sort(Comparator.comparing(Flight::getDepartureTime)));
+    }
+
+    @Override
+    public List<Flight> getAvailableFlights(RouteDayQuery query) {
+        return flights.getOrDefault(new RouteDay(query.getDeparture().getCode(), query.getArrival().getCode(), query.getDepartureDate()), List.of());
+    }
+
+    @Override
+    public Flight createFlight(FlightCreationCommand command) {
+        throw new UnsupportedOperationException();
+    }
+
+    private record RouteDay(int departure, int arrival, LocalDate date) {
+    }
+}
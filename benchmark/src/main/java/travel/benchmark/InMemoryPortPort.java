@@ -0,0 +1,29 @@
+package travel.benchmark;
+
+import travel.command.PortCreationCommand;
+import travel.model.Port;
+import travel.port.PortPort;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class InMemoryPortPort implements PortPort {
+    private final Map<String, Port> ports;
+
+    InMemoryPortPort(List<Port> ports) {
+        this.ports = ports.stream().collect(Collectors.toMap(port -> port.getName().toLowerCase(Locale.ROOT), Function.identity()));
+    }
+
+    @Override
+    public Port findByName(String name) {
+        return ports.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public Port createPort(PortCreationCommand command) {
+        throw new UnsupportedOperationException();
+    }
+}
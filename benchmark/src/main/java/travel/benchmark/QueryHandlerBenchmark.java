@@ -0,0 +1,80 @@
+package travel.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import travel.handler.OneWayFlightQueryHandler;
+import travel.handler.TwoWayFlightQueryHandler;
+import travel.query.FlightSort;
+import travel.query.OneWayFlightQuery;
+import travel.query.TwoWayFlightQuery;
+import travel.result.OneWayFlightResult;
+import travel.result.TwoWayFlightResult;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static travel.benchmark.FlightFixtures.ANKARA;
+import static travel.benchmark.FlightFixtures.ISTANBUL;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryHandlerBenchmark {
+    @Param({"10", "100", "1000"})
+    int flightsPerDay;
+
+    OneWayFlightQueryHandler oneWayHandler;
+    TwoWayFlightQueryHandler twoWayHandler;
+    OneWayFlightQuery oneWayQuery;
+    OneWayFlightQuery oneWayPageQuery;
+    TwoWayFlightQuery twoWayQuery;
+
+    @Setup
+    public void setup() {
+        var departureDate = LocalDate.now().plusDays(7);
+        var returnDate = departureDate.plusDays(3);
+        var flightPort = new InMemoryFlightPort();
+        var portPort = new InMemoryPortPort(List.of(ISTANBUL, ANKARA));
+
+        flightPort.addAll(FlightFixtures.flights(ISTANBUL, ANKARA, departureDate, flightsPerDay));
+        flightPort.addAll(FlightFixtures.flights(ANKARA, ISTANBUL, returnDate, flightsPerDay));
+        oneWayHandler = new OneWayFlightQueryHandler(flightPort, portPort);
+        twoWayHandler = new TwoWayFlightQueryHandler(flightPort, portPort);
+        oneWayQuery = OneWayFlightQuery.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureDate(departureDate)
+                .build();
+        oneWayPageQuery = OneWayFlightQuery.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureDate(departureDate)
+                .sort(FlightSort.PRICE)
+                .limit(20)
+                .build();
+        twoWayQuery = TwoWayFlightQuery.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureDate(departureDate)
+                .returnDate(returnDate)
+                .build();
+    }
+
+    @Benchmark
+    public OneWayFlightResult oneWay() {
+        return oneWayHandler.handle(oneWayQuery);
+    }
+
+    @Benchmark
+    public OneWayFlightResult oneWayCheapestPage() {
+        return oneWayHandler.handle(oneWayPageQuery);
+    }
+
+    @Benchmark
+    public TwoWayFlightResult twoWay() {
+        return twoWayHandler.handle(twoWayQuery);
+    }
+}
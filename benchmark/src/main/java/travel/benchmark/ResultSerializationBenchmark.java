@@ -0,0 +1,87 @@
+package travel.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import travel.infra.WebConfiguration;
+import travel.result.OneWayFlightResult;
+import travel.result.TwoWayFlightResult;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static travel.benchmark.FlightFixtures.ANKARA;
+import static travel.benchmark.FlightFixtures.ISTANBUL;
+
+/**
+ * Serialises results with a mapper configured like the one Spring Boot builds for the
+ * controllers: java.time support and ISO dates. The {@code encoding} parameter compares
+ * the default JSON body with the Smile body served on
+ * {@code Accept: application/x-jackson-smile}; payload sizes are printed at the end of
+ * each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultSerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    int flightsPerDay;
+
+    @Param({"json", "smile"})
+    String encoding;
+
+    ObjectMapper objectMapper;
+    OneWayFlightResult oneWayResult;
+    TwoWayFlightResult twoWayResult;
+
+    @Setup
+    public void setup() {
+        var departureDate = LocalDate.now().plusDays(7);
+        var returnDate = departureDate.plusDays(3);
+        var departureFlights = FlightFixtures.flights(ISTANBUL, ANKARA, departureDate, flightsPerDay);
+        var returnFlights = FlightFixtures.flights(ANKARA, ISTANBUL, returnDate, flightsPerDay);
+
+        objectMapper = ("smile".equals(encoding) ? new ObjectMapper(WebConfiguration.smileFactory()) : new ObjectMapper())
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        oneWayResult = OneWayFlightResult.builder()
+                .departure(ISTANBUL)
+                .arrival(ANKARA)
+                .flightCount(departureFlights.size())
+                .departureDate(departureDate)
+                .flights(departureFlights)
+                .build();
+        twoWayResult = TwoWayFlightResult.builder()
+                .departure(ISTANBUL)
+                .arrival(ANKARA)
+                .departureDate(departureDate)
+                .returnDate(returnDate)
+                .departureFlightCount(departureFlights.size())
+                .returnFlightCount(returnFlights.size())
+                .departureFlights(departureFlights)
+                .returnFlights(returnFlights)
+                .build();
+    }
+
+    @TearDown
+    public void printPayloadSizes() throws JsonProcessingException {
+        System.out.printf("%n%s payload bytes for %d flights per day: one-way %d, two-way %d%n",
+                encoding, flightsPerDay,
+                objectMapper.writeValueAsBytes(oneWayResult).length,
+                objectMapper.writeValueAsBytes(twoWayResult).length);
+    }
+
+    @Benchmark
+    public byte[] oneWay() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(oneWayResult);
+    }
+
+    @Benchmark
+    public byte[] twoWay() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(twoWayResult);
+    }
+}
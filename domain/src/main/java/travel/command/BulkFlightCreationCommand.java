@@ -0,0 +1,12 @@
+package travel.command;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkFlightCreationCommand implements Command {
+    private List<FlightCreationCommand> flights;
+}
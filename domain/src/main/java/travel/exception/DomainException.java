@@ -0,0 +1,11 @@
+package travel.exception;
+
+/**
+ * Common supertype of the exceptions handlers throw for a query or command they reject,
+ * so callers can tell rejected input apart from failures of the code or the database.
+ */
+public abstract class DomainException extends RuntimeException {
+    protected DomainException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package travel.exception;
+
+public class FlightRejectedException extends DomainException {
+    public FlightRejectedException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package travel.exception;
 
-public class IdenticalDepartureAndArrivalException extends IllegalArgumentException {
+public class IdenticalDepartureAndArrivalException extends DomainException {
     public IdenticalDepartureAndArrivalException(String message) {
         super(message);
     }
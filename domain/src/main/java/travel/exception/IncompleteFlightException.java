@@ -0,0 +1,7 @@
+package travel.exception;
+
+public class IncompleteFlightException extends DomainException {
+    public IncompleteFlightException(String message) {
+        super(message);
+    }
+}
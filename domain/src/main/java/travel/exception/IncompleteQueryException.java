@@ -0,0 +1,7 @@
+package travel.exception;
+
+public class IncompleteQueryException extends DomainException {
+    public IncompleteQueryException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package travel.exception;
 
-public class IncorrectPortNameException extends IllegalArgumentException {
+public class IncorrectPortNameException extends DomainException {
     public IncorrectPortNameException(String message) {
         super(message);
     }
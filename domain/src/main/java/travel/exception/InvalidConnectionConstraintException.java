@@ -0,0 +1,7 @@
+package travel.exception;
+
+public class InvalidConnectionConstraintException extends DomainException {
+    public InvalidConnectionConstraintException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package travel.exception;
 
-public class InvalidDateRangeException extends IllegalArgumentException {
+public class InvalidDateRangeException extends DomainException {
     public InvalidDateRangeException(String message) {
         super(message);
     }
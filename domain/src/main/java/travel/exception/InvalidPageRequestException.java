@@ -0,0 +1,7 @@
+package travel.exception;
+
+public class InvalidPageRequestException extends DomainException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package travel.exception;
 
-public class PastDateException extends RuntimeException {
+public class PastDateException extends DomainException {
     public PastDateException(String message) {
         super(message);
     }
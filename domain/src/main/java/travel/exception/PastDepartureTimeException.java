@@ -1,6 +1,6 @@
 package travel.exception;
 
-public class PastDepartureTimeException extends RuntimeException {
+public class PastDepartureTimeException extends DomainException {
     public PastDepartureTimeException(String message) {
         super(message);
     }
@@ -1,6 +1,6 @@
 package travel.exception;
 
-public class PortAlreadyExistsException extends IllegalArgumentException {
+public class PortAlreadyExistsException extends DomainException {
     public PortAlreadyExistsException(String message) {
         super(message);
     }
@@ -0,0 +1,7 @@
+package travel.exception;
+
+public class TooManyFlightsException extends DomainException {
+    public TooManyFlightsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package travel.exception;
+
+public class TooManyQueriesException extends DomainException {
+    public TooManyQueriesException(String message) {
+        super(message);
+    }
+}
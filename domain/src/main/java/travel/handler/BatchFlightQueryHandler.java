@@ -0,0 +1,124 @@
+package travel.handler;
+
+import lombok.RequiredArgsConstructor;
+import travel.exception.DomainException;
+import travel.exception.TooManyQueriesException;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.port.FlightPort;
+import travel.port.PortPort;
+import travel.query.BatchFlightQuery;
+import travel.query.FlightPage;
+import travel.query.FlightPageToken;
+import travel.query.FlightSort;
+import travel.query.OneWayFlightQuery;
+import travel.query.RouteDayQuery;
+import travel.result.BatchFlightResult;
+import travel.result.BatchFlightResultItem;
+import travel.result.OneWayFlightResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs many one-way searches with the same rules as {@link OneWayFlightQueryHandler},
+ * reporting invalid queries instead of failing the whole batch. All port names are
+ * resolved in one lookup and all route-days are fetched in one call to the flight port.
+ */
+@RequiredArgsConstructor
+public class BatchFlightQueryHandler implements QueryHandler<BatchFlightResult, BatchFlightQuery> {
+    public static final int MAX_QUERIES = 100;
+
+    private final FlightPort flightPort;
+    private final PortPort portPort;
+
+    @Override
+    public BatchFlightResult handle(BatchFlightQuery batch) {
+        if (batch.getQueries().size() > MAX_QUERIES)
+            throw new TooManyQueriesException("A batch can not contain more than " + MAX_QUERIES + " queries.");
+
+        int size = batch.getQueries().size();
+        String[] errors = new String[size];
+        FlightPageToken[] pageTokens = new FlightPageToken[size];
+        Set<String> names = new HashSet<>();
+
+        for (int index = 0; index < size; index++) {
+            OneWayFlightQuery query = batch.getQueries().get(index);
+
+            try {
+                pageTokens[index] = OneWayFlightQueryHandler.validate(query);
+                names.add(query.getDeparturePort());
+                names.add(query.getArrivalPort());
+            } catch (DomainException e) {
+                errors[index] = e.getMessage();
+            }
+        }
+
+        Map<String, Port> ports = names.isEmpty() ? Map.of() : portPort.findAllByNames(names);
+        List<Integer> resolved = new ArrayList<>();
+
+        for (int index = 0; index < size; index++) {
+            if (errors[index] != null)
+                continue;
+
+            OneWayFlightQuery query = batch.getQueries().get(index);
+
+            if (!ports.containsKey(key(query.getDeparturePort())))
+                errors[index] = "The departure port name is incorrect.";
+            else if (!ports.containsKey(key(query.getArrivalPort())))
+                errors[index] = "The arrival port name is incorrect.";
+            else
+                resolved.add(index);
+        }
+
+        List<List<Flight>> flights = resolved.isEmpty() ? List.of() : flightPort.getAvailableFlightsOfAll(resolved.stream()
+                .map(batch.getQueries()::get)
+                .map(query -> RouteDayQuery.of(
+                        ports.get(key(query.getDeparturePort())),
+                        ports.get(key(query.getArrivalPort())),
+                        query))
+                .toList());
+        BatchFlightResultItem[] items = new BatchFlightResultItem[size];
+
+        for (int position = 0; position < resolved.size(); position++) {
+            int index = resolved.get(position);
+            OneWayFlightQuery query = batch.getQueries().get(index);
+            FlightSort sort = FlightSort.orDefault(query.getSort());
+            List<Flight> page = FlightPage.of(flights.get(position), sort, pageTokens[index], query.getLimit());
+
+            items[index] = BatchFlightResultItem.builder()
+                    .index(index)
+                    .result(OneWayFlightResult.builder()
+                            .departure(ports.get(key(query.getDeparturePort())))
+                            .arrival(ports.get(key(query.getArrivalPort())))
+                            .flightCount(page.size())
+                            .departureDate(query.getDepartureDate())
+                            .flights(page)
+                            .nextPageToken(FlightPage.nextPageToken(page, sort, query.getLimit()))
+                            .build())
+                    .build();
+        }
+
+        for (int index = 0; index < size; index++) {
+            if (items[index] == null)
+                items[index] = BatchFlightResultItem.builder()
+                        .index(index)
+                        .error(errors[index])
+                        .build();
+        }
+
+        return BatchFlightResult.builder()
+                .succeededCount(resolved.size())
+                .failedCount(size - resolved.size())
+                .results(List.of(items))
+                .build();
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
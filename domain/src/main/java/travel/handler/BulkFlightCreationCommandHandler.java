@@ -0,0 +1,130 @@
+package travel.handler;
+
+import lombok.RequiredArgsConstructor;
+import travel.command.BulkFlightCreationCommand;
+import travel.command.FlightCreationCommand;
+import travel.exception.DomainException;
+import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncompleteFlightException;
+import travel.exception.PastDepartureTimeException;
+import travel.exception.TooManyFlightsException;
+import travel.model.BulkFlightCreationReport;
+import travel.model.FlightCreationError;
+import travel.model.Port;
+import travel.port.FlightPort;
+import travel.port.PortPort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates every flight with the same rules as {@link FlightCreationCommandHandler}, but
+ * reports invalid rows instead of failing the whole batch. All port names are resolved in
+ * one lookup. When the flight port rejects the valid rows for their data, they are split
+ * in halves and retried, so a row the store refuses only fails itself.
+ */
+@RequiredArgsConstructor
+public class BulkFlightCreationCommandHandler implements CommandHandler<BulkFlightCreationReport, BulkFlightCreationCommand> {
+    public static final int MAX_FLIGHTS = 10000;
+
+    private final FlightPort flightPort;
+    private final PortPort portPort;
+
+    @Override
+    public BulkFlightCreationReport handle(BulkFlightCreationCommand command) {
+        if (command.getFlights().size() > MAX_FLIGHTS)
+            throw new TooManyFlightsException("A bulk request can not contain more than " + MAX_FLIGHTS + " flights.");
+
+        LocalDateTime now = LocalDateTime.now();
+        int size = command.getFlights().size();
+        String[] errors = new String[size];
+        Set<String> names = new HashSet<>();
+
+        for (int index = 0; index < size; index++) {
+            FlightCreationCommand flight = command.getFlights().get(index);
+
+            try {
+                validate(flight, now);
+                names.add(flight.getDeparturePort());
+                names.add(flight.getArrivalPort());
+            } catch (DomainException e) {
+                errors[index] = e.getMessage();
+            }
+        }
+
+        Map<String, Port> ports = names.isEmpty() ? Map.of() : portPort.findAllByNames(names);
+        List<Integer> valid = new ArrayList<>(size);
+
+        for (int index = 0; index < size; index++) {
+            if (errors[index] != null)
+                continue;
+
+            FlightCreationCommand flight = command.getFlights().get(index);
+
+            if (!ports.containsKey(key(flight.getDeparturePort())))
+                errors[index] = "The departure port name is incorrect.";
+            else if (!ports.containsKey(key(flight.getArrivalPort())))
+                errors[index] = "The arrival port name is incorrect.";
+            else
+                valid.add(index);
+        }
+
+        create(command.getFlights(), valid, errors);
+
+        List<FlightCreationError> report = new ArrayList<>();
+
+        for (int index = 0; index < size; index++) {
+            if (errors[index] != null)
+                report.add(FlightCreationError.builder()
+                        .index(index)
+                        .message(errors[index])
+                        .build());
+        }
+
+        return BulkFlightCreationReport.builder()
+                .createdCount(size - report.size())
+                .failedCount(report.size())
+                .errors(report)
+                .build();
+    }
+
+    private void create(List<FlightCreationCommand> flights, List<Integer> indexes, String[] errors) {
+        if (indexes.isEmpty())
+            return;
+
+        try {
+            flightPort.createFlights(indexes.stream().map(flights::get).toList());
+        } catch (DomainException e) {
+            if (indexes.size() == 1) {
+                errors[indexes.get(0)] = e.getMessage();
+                return;
+            }
+
+            int middle = indexes.size() / 2;
+
+            create(flights, indexes.subList(0, middle), errors);
+            create(flights, indexes.subList(middle, indexes.size()), errors);
+        }
+    }
+
+    private static void validate(FlightCreationCommand flight, LocalDateTime now) {
+        if (flight == null || flight.getDeparturePort() == null || flight.getArrivalPort() == null
+                || flight.getDepartureTime() == null || flight.getCurrency() == null)
+            throw new IncompleteFlightException("The flight is missing required fields.");
+
+        if (flight.getDepartureTime().isBefore(now))
+            throw new PastDepartureTimeException("The departure date can not be past.");
+
+        if (flight.getDeparturePort().compareToIgnoreCase(flight.getArrivalPort()) == 0)
+            throw new IdenticalDepartureAndArrivalException("The departure and arrival ports can not be identical.");
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
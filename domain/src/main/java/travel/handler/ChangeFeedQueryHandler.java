@@ -0,0 +1,42 @@
+package travel.handler;
+
+import lombok.RequiredArgsConstructor;
+import travel.exception.InvalidPageRequestException;
+import travel.model.ChangeEvent;
+import travel.port.ChangeFeedPort;
+import travel.query.ChangeFeedQuery;
+import travel.result.ChangeFeedResult;
+
+import java.util.List;
+
+/**
+ * Pages through the change feed for consumers outside the application. The result's
+ * last sequence is the one to ask after next time; it stays the same when there are no
+ * new events. A limit of 0 asks for {@link #DEFAULT_LIMIT} events.
+ */
+@RequiredArgsConstructor
+public class ChangeFeedQueryHandler implements QueryHandler<ChangeFeedResult, ChangeFeedQuery> {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    private final ChangeFeedPort changeFeedPort;
+
+    @Override
+    public ChangeFeedResult handle(ChangeFeedQuery query) {
+        if (query.getAfterSequence() < 0)
+            throw new InvalidPageRequestException("The sequence can not be negative.");
+
+        if (query.getLimit() < 0 || query.getLimit() > MAX_LIMIT)
+            throw new InvalidPageRequestException("The limit can not be negative or more than " + MAX_LIMIT + ".");
+
+        List<ChangeEvent> events = changeFeedPort.getChangesAfter(
+                query.getAfterSequence(),
+                query.getLimit() == 0 ? DEFAULT_LIMIT : query.getLimit()
+        );
+
+        return ChangeFeedResult.builder()
+                .events(events)
+                .lastSequence(events.isEmpty() ? query.getAfterSequence() : events.get(events.size() - 1).getSequence())
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package travel.handler;
+
+import lombok.RequiredArgsConstructor;
+import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncorrectPortNameException;
+import travel.exception.InvalidConnectionConstraintException;
+import travel.exception.PastDateException;
+import travel.model.Flight;
+import travel.model.Itinerary;
+import travel.model.Port;
+import travel.port.ConnectionPort;
+import travel.port.PortPort;
+import travel.query.ConnectingFlightQuery;
+import travel.result.ConnectingFlightResult;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ConnectingFlightQueryHandler implements QueryHandler<ConnectingFlightResult, ConnectingFlightQuery> {
+    public static final Duration MAX_TOTAL_DURATION = Duration.ofHours(48);
+    public static final int MAX_CONNECTIONS = 3;
+
+    private final ConnectionPort connectionPort;
+    private final PortPort portPort;
+
+    @Override
+    public ConnectingFlightResult handle(ConnectingFlightQuery query) {
+        if (query.getDepartureDate().isBefore(LocalDate.now()))
+            throw new PastDateException("The departure date can not be past.");
+
+        if (query.getDeparturePort().compareToIgnoreCase(query.getArrivalPort()) == 0)
+            throw new IdenticalDepartureAndArrivalException("The departure and arrival ports can not be identical.");
+
+        if (query.getMaxConnections() < 0)
+            throw new InvalidConnectionConstraintException("The maximum number of connections can not be negative.");
+
+        if (query.getMaxConnections() > MAX_CONNECTIONS)
+            throw new InvalidConnectionConstraintException("The maximum number of connections can not be more than " + MAX_CONNECTIONS + ".");
+
+        if (query.getMinConnectionTime().isNegative())
+            throw new InvalidConnectionConstraintException("The minimum connection time can not be negative.");
+
+        if (query.getMaxTotalDuration().isNegative() || query.getMaxTotalDuration().isZero())
+            throw new InvalidConnectionConstraintException("The maximum total duration must be positive.");
+
+        if (query.getMaxTotalDuration().compareTo(MAX_TOTAL_DURATION) > 0)
+            throw new InvalidConnectionConstraintException("The maximum total duration can not be longer than " + MAX_TOTAL_DURATION.toHours() + " hours.");
+
+        Port departure = portPort.findByName(query.getDeparturePort());
+        Port arrival = portPort.findByName(query.getArrivalPort());
+
+        if (departure == null)
+            throw new IncorrectPortNameException("The departure port name is incorrect.");
+
+        if (arrival == null)
+            throw new IncorrectPortNameException("The arrival port name is incorrect.");
+
+        LocalDateTime firstDeparture = query.getDepartureDate().atStartOfDay();
+        LocalDateTime lastDeparture = query.getDepartureDate().atTime(LocalTime.MAX);
+        LocalDateTime lastConnection = lastDeparture.plus(query.getMaxTotalDuration());
+        List<Flight> flights = connectionPort.getFlightsDepartingBetween(firstDeparture, lastConnection);
+        List<Itinerary> itineraries = scan(flights, departure, arrival, lastDeparture, query);
+
+        return ConnectingFlightResult.builder()
+                .departure(departure)
+                .arrival(arrival)
+                .itineraryCount(itineraries.size())
+                .departureDate(query.getDepartureDate())
+                .itineraries(itineraries)
+                .build();
+    }
+
+    /**
+     * Connection scan over flights ordered by departure time. Each port keeps the Pareto
+     * set of partial itineraries ending there: a label is dropped when another one left the
+     * origin no earlier, boarded its last leg no later and used no more legs. Flights carry
+     * no arrival time, so the minimum connection time is measured between departures.
+     */
+    private static List<Itinerary> scan(List<Flight> flights, Port departure, Port arrival,
+                                        LocalDateTime lastDeparture, ConnectingFlightQuery query) {
+        int maxLegs = query.getMaxConnections() + 1;
+        List<Label>[] labels = labelsByPortCode(flights);
+        List<Itinerary> itineraries = new ArrayList<>();
+
+        for (Flight flight : flights) {
+            int from = flight.getDeparture().getCode();
+            int to = flight.getArrival().getCode();
+            List<Label> candidates = new ArrayList<>();
+
+            if (from == departure.getCode() && !flight.getDepartureTime().isAfter(lastDeparture))
+                candidates.add(new Label(flight, null));
+
+            List<Label> waiting = labels[from];
+
+            if (waiting != null) {
+                waiting.removeIf(label -> label.departureTime.plus(query.getMaxTotalDuration()).isBefore(flight.getDepartureTime()));
+
+                for (Label label : waiting) {
+                    if (label.legs < maxLegs
+                            && !label.flight.getDepartureTime().plus(query.getMinConnectionTime()).isAfter(flight.getDepartureTime())
+                            && !label.visits(to))
+                        candidates.add(new Label(flight, label));
+                }
+            }
+
+            for (Label candidate : candidates) {
+                if (to == arrival.getCode())
+                    itineraries.add(candidate.toItinerary());
+                else if (candidate.legs < maxLegs) {
+                    if (labels[to] == null)
+                        labels[to] = new ArrayList<>();
+
+                    insert(labels[to], candidate);
+                }
+            }
+        }
+
+        return itineraries;
+    }
+
+    /**
+     * Port codes are dense, so the per-port label bags live in an array indexed by code.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Label>[] labelsByPortCode(List<Flight> flights) {
+        int maxCode = 0;
+
+        for (Flight flight : flights)
+            maxCode = Math.max(maxCode, Math.max(flight.getDeparture().getCode(), flight.getArrival().getCode()));
+
+        return new List[maxCode + 1];
+    }
+
+    private static void insert(List<Label> bag, Label candidate) {
+        for (Label label : bag) {
+            if (label.dominates(candidate))
+                return;
+        }
+
+        bag.removeIf(candidate::dominates);
+        bag.add(candidate);
+    }
+
+    private static final class Label {
+        private final Flight flight;
+        private final Label previous;
+        private final int legs;
+        private final LocalDateTime departureTime;
+
+        private Label(Flight flight, Label previous) {
+            this.flight = flight;
+            this.previous = previous;
+            this.legs = previous == null ? 1 : previous.legs + 1;
+            this.departureTime = previous == null ? flight.getDepartureTime() : previous.departureTime;
+        }
+
+        private boolean dominates(Label other) {
+            return !departureTime.isBefore(other.departureTime)
+                    && !flight.getDepartureTime().isAfter(other.flight.getDepartureTime())
+                    && legs <= other.legs;
+        }
+
+        private boolean visits(int port) {
+            for (Label label = this; label != null; label = label.previous) {
+                if (label.flight.getDeparture().getCode() == port)
+                    return true;
+            }
+
+            return false;
+        }
+
+        private Itinerary toItinerary() {
+            LinkedList<Flight> flights = new LinkedList<>();
+
+            for (Label label = this; label != null; label = label.previous)
+                flights.addFirst(label.flight);
+
+            return Itinerary.builder()
+                    .connectionCount(legs - 1)
+                    .departureTime(departureTime)
+                    .lastDepartureTime(flight.getDepartureTime())
+                    .flights(List.copyOf(flights))
+                    .build();
+        }
+    }
+}
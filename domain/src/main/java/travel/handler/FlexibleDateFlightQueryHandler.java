@@ -0,0 +1,98 @@
+package travel.handler;
+
+import lombok.RequiredArgsConstructor;
+import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncorrectPortNameException;
+import travel.exception.InvalidDateRangeException;
+import travel.exception.PastDateException;
+import travel.model.DailyFlights;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.port.FlightPort;
+import travel.port.PortPort;
+import travel.query.FlexibleDateFlightQuery;
+import travel.result.FlexibleDateFlightResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class FlexibleDateFlightQueryHandler implements QueryHandler<FlexibleDateFlightResult, FlexibleDateFlightQuery> {
+    public static final int MAX_FLEXIBILITY_DAYS = 30;
+
+    private final FlightPort flightPort;
+    private final PortPort portPort;
+
+    @Override
+    public FlexibleDateFlightResult handle(FlexibleDateFlightQuery query) {
+        LocalDate today = LocalDate.now();
+
+        if (query.getDepartureDate().isBefore(today))
+            throw new PastDateException("The departure date can not be past.");
+
+        if (query.getFlexibilityDays() < 0)
+            throw new InvalidDateRangeException("The date flexibility can not be negative.");
+
+        if (query.getFlexibilityDays() > MAX_FLEXIBILITY_DAYS)
+            throw new InvalidDateRangeException("The date flexibility can not be more than " + MAX_FLEXIBILITY_DAYS + " days.");
+
+        if (query.getDeparturePort().compareToIgnoreCase(query.getArrivalPort()) == 0)
+            throw new IdenticalDepartureAndArrivalException("The departure and arrival ports can not be identical.");
+
+        Port departure = portPort.findByName(query.getDeparturePort());
+        Port arrival = portPort.findByName(query.getArrivalPort());
+
+        if (departure == null)
+            throw new IncorrectPortNameException("The departure port name is incorrect.");
+
+        if (arrival == null)
+            throw new IncorrectPortNameException("The arrival port name is incorrect.");
+
+        LocalDate firstDate = query.getDepartureDate().minusDays(query.getFlexibilityDays());
+        LocalDate lastDate = query.getDepartureDate().plusDays(query.getFlexibilityDays());
+
+        if (firstDate.isBefore(today))
+            firstDate = today;
+
+        List<Flight> flights = flightPort.getAvailableFlightsBetween(departure, arrival, firstDate, lastDate);
+        Map<LocalDate, List<Flight>> flightsByDate = flights.stream()
+                .collect(Collectors.groupingBy(flight -> flight.getDepartureTime().toLocalDate()));
+        List<DailyFlights> days = new ArrayList<>();
+
+        for (LocalDate date = firstDate; !date.isAfter(lastDate); date = date.plusDays(1)) {
+            List<Flight> daily = flightsByDate.getOrDefault(date, List.of());
+
+            days.add(DailyFlights.builder()
+                    .date(date)
+                    .flightCount(daily.size())
+                    .cheapestFlights(cheapestPerCurrency(daily))
+                    .flights(daily)
+                    .build());
+        }
+
+        return FlexibleDateFlightResult.builder()
+                .departure(departure)
+                .arrival(arrival)
+                .flightCount(flights.size())
+                .departureDate(query.getDepartureDate())
+                .firstDate(firstDate)
+                .lastDate(lastDate)
+                .days(days)
+                .build();
+    }
+
+    private static List<Flight> cheapestPerCurrency(List<Flight> flights) {
+        Map<String, Flight> cheapest = new TreeMap<>();
+
+        for (Flight flight : flights)
+            cheapest.merge(flight.getCurrency(), flight, BinaryOperator.minBy(Comparator.comparingDouble(Flight::getAmount)));
+
+        return List.copyOf(cheapest.values());
+    }
+}
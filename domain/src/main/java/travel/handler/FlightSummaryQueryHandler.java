@@ -0,0 +1,68 @@
+package travel.handler;
+
+import lombok.RequiredArgsConstructor;
+import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncorrectPortNameException;
+import travel.exception.InvalidDateRangeException;
+import travel.exception.PastDateException;
+import travel.model.Port;
+import travel.model.RouteDaySummary;
+import travel.port.FlightPort;
+import travel.port.PortPort;
+import travel.query.FlightSummaryQuery;
+import travel.result.FlightSummaryResult;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Answers "how many flights, from which price" for a range of days without loading the
+ * flights themselves, e.g. for fare calendars. Days without flights are left out.
+ */
+@RequiredArgsConstructor
+public class FlightSummaryQueryHandler implements QueryHandler<FlightSummaryResult, FlightSummaryQuery> {
+    public static final int MAX_DAYS = 366;
+
+    private final FlightPort flightPort;
+    private final PortPort portPort;
+
+    @Override
+    public FlightSummaryResult handle(FlightSummaryQuery query) {
+        LocalDate today = LocalDate.now();
+
+        if (query.getLastDate().isBefore(today))
+            throw new PastDateException("The last date can not be past.");
+
+        if (query.getLastDate().isBefore(query.getFirstDate()))
+            throw new InvalidDateRangeException("The last date can not be before the first date.");
+
+        if (query.getDeparturePort().compareToIgnoreCase(query.getArrivalPort()) == 0)
+            throw new IdenticalDepartureAndArrivalException("The departure and arrival ports can not be identical.");
+
+        LocalDate firstDate = query.getFirstDate().isBefore(today) ? today : query.getFirstDate();
+
+        if (ChronoUnit.DAYS.between(firstDate, query.getLastDate()) >= MAX_DAYS)
+            throw new InvalidDateRangeException("The date range can not be longer than " + MAX_DAYS + " days.");
+
+        Port departure = portPort.findByName(query.getDeparturePort());
+        Port arrival = portPort.findByName(query.getArrivalPort());
+
+        if (departure == null)
+            throw new IncorrectPortNameException("The departure port name is incorrect.");
+
+        if (arrival == null)
+            throw new IncorrectPortNameException("The arrival port name is incorrect.");
+
+        List<RouteDaySummary> days = flightPort.getRouteDaySummaries(departure, arrival, firstDate, query.getLastDate());
+
+        return FlightSummaryResult.builder()
+                .departure(departure)
+                .arrival(arrival)
+                .flightCount(days.stream().mapToInt(RouteDaySummary::getFlightCount).sum())
+                .firstDate(firstDate)
+                .lastDate(query.getLastDate())
+                .days(days)
+                .build();
+    }
+}
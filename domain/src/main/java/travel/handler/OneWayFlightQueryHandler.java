@@ -2,13 +2,19 @@ package travel.handler;
 
 import lombok.RequiredArgsConstructor;
 import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncompleteQueryException;
 import travel.exception.IncorrectPortNameException;
+import travel.exception.InvalidPageRequestException;
 import travel.exception.PastDateException;
 import travel.model.Flight;
 import travel.model.Port;
 import travel.port.FlightPort;
 import travel.port.PortPort;
+import travel.query.FlightPage;
+import travel.query.FlightPageToken;
+import travel.query.FlightSort;
 import travel.query.OneWayFlightQuery;
+import travel.query.RouteDayQuery;
 import travel.result.OneWayFlightResult;
 
 import java.time.LocalDate;
@@ -21,11 +27,8 @@ public class OneWayFlightQueryHandler implements QueryHandler<OneWayFlightResult
 
     @Override
     public OneWayFlightResult handle(OneWayFlightQuery query) {
-        if (query.getDepartureDate().isBefore(LocalDate.now()))
-            throw new PastDateException("The departure date can not be past.");
-
-        if (query.getDeparturePort().compareToIgnoreCase(query.getArrivalPort()) == 0)
-            throw new IdenticalDepartureAndArrivalException("The departure and arrival ports can not be identical.");
+        FlightPageToken after = validate(query);
+        FlightSort sort = FlightSort.orDefault(query.getSort());
 
         Port departure = portPort.findByName(query.getDeparturePort());
         Port arrival = portPort.findByName(query.getArrivalPort());
@@ -36,7 +39,7 @@ public class OneWayFlightQueryHandler implements QueryHandler<OneWayFlightResult
         if (arrival == null)
             throw new IncorrectPortNameException("The arrival port name is incorrect.");
 
-        List<Flight> flights = flightPort.getAvailableFlights(query);
+        List<Flight> flights = FlightPage.of(flightPort.getAvailableFlights(RouteDayQuery.of(departure, arrival, query)), sort, after, query.getLimit());
 
         return OneWayFlightResult.builder()
                 .departure(departure)
@@ -44,6 +47,29 @@ public class OneWayFlightQueryHandler implements QueryHandler<OneWayFlightResult
                 .flightCount(flights.size())
                 .departureDate(query.getDepartureDate())
                 .flights(flights)
+                .nextPageToken(FlightPage.nextPageToken(flights, sort, query.getLimit()))
                 .build();
     }
+
+    /**
+     * Checks everything that can be checked without the ports or flights, so callers that
+     * fetch those themselves can reject a query before going to the database. Returns the
+     * decoded page token.
+     */
+    public static FlightPageToken validate(OneWayFlightQuery query) {
+        if (query == null || query.getDeparturePort() == null || query.getArrivalPort() == null
+                || query.getDepartureDate() == null)
+            throw new IncompleteQueryException("The query is missing required fields.");
+
+        if (query.getDepartureDate().isBefore(LocalDate.now()))
+            throw new PastDateException("The departure date can not be past.");
+
+        if (query.getDeparturePort().compareToIgnoreCase(query.getArrivalPort()) == 0)
+            throw new IdenticalDepartureAndArrivalException("The departure and arrival ports can not be identical.");
+
+        if (query.getLimit() < 0)
+            throw new InvalidPageRequestException("The limit can not be negative.");
+
+        return FlightPageToken.decode(query.getPageToken(), FlightSort.orDefault(query.getSort()));
+    }
 }
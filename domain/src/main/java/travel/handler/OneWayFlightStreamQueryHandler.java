@@ -0,0 +1,45 @@
+package travel.handler;
+
+import lombok.RequiredArgsConstructor;
+import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncorrectPortNameException;
+import travel.exception.PastDateException;
+import travel.model.Port;
+import travel.port.FlightPort;
+import travel.port.PortPort;
+import travel.query.OneWayFlightQuery;
+import travel.query.RouteDayQuery;
+import travel.result.OneWayFlightStreamResult;
+
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+public class OneWayFlightStreamQueryHandler implements QueryHandler<OneWayFlightStreamResult, OneWayFlightQuery> {
+    private final FlightPort flightPort;
+    private final PortPort portPort;
+
+    @Override
+    public OneWayFlightStreamResult handle(OneWayFlightQuery query) {
+        if (query.getDepartureDate().isBefore(LocalDate.now()))
+            throw new PastDateException("The departure date can not be past.");
+
+        if (query.getDeparturePort().compareToIgnoreCase(query.getArrivalPort()) == 0)
+            throw new IdenticalDepartureAndArrivalException("The departure and arrival ports can not be identical.");
+
+        Port departure = portPort.findByName(query.getDeparturePort());
+        Port arrival = portPort.findByName(query.getArrivalPort());
+
+        if (departure == null)
+            throw new IncorrectPortNameException("The departure port name is incorrect.");
+
+        if (arrival == null)
+            throw new IncorrectPortNameException("The arrival port name is incorrect.");
+
+        return OneWayFlightStreamResult.builder()
+                .departure(departure)
+                .arrival(arrival)
+                .departureDate(query.getDepartureDate())
+                .flights(flightPort.streamAvailableFlights(RouteDayQuery.of(departure, arrival, query)))
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package travel.handler;
+
+import lombok.RequiredArgsConstructor;
+import travel.command.FlightCreationCommand;
+import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncorrectPortNameException;
+import travel.exception.PastDepartureTimeException;
+import travel.model.Flight;
+import travel.port.FlightQueuePort;
+import travel.port.PortPort;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Validates the flight with the same rules as {@link FlightCreationCommandHandler}, then
+ * hands it to the {@link FlightQueuePort} instead of writing it. Invalid flights are
+ * rejected right away; the returned future only covers the write.
+ */
+@RequiredArgsConstructor
+public class QueuedFlightCreationCommandHandler implements CommandHandler<CompletableFuture<Flight>, FlightCreationCommand> {
+    private final FlightQueuePort flightQueuePort;
+    private final PortPort portPort;
+
+    @Override
+    public CompletableFuture<Flight> handle(FlightCreationCommand command) {
+        if (command.getDepartureTime().isBefore(LocalDateTime.now()))
+            throw new PastDepartureTimeException("The departure date can not be past.");
+
+        if (command.getDeparturePort().compareToIgnoreCase(command.getArrivalPort()) == 0)
+            throw new IdenticalDepartureAndArrivalException("The departure and arrival ports can not be identical.");
+
+        if (portPort.findByName(command.getDeparturePort()) == null)
+            throw new IncorrectPortNameException("The departure port name is incorrect.");
+
+        if (portPort.findByName(command.getArrivalPort()) == null)
+            throw new IncorrectPortNameException("The arrival port name is incorrect.");
+
+        return flightQueuePort.enqueue(command);
+    }
+}
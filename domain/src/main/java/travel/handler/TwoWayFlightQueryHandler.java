@@ -4,12 +4,17 @@ import lombok.RequiredArgsConstructor;
 import travel.exception.IdenticalDepartureAndArrivalException;
 import travel.exception.IncorrectPortNameException;
 import travel.exception.InvalidDateRangeException;
+import travel.exception.InvalidPageRequestException;
 import travel.exception.PastDateException;
 import travel.model.Flight;
 import travel.model.Port;
+import travel.model.RoundTripFlights;
 import travel.port.FlightPort;
 import travel.port.PortPort;
-import travel.query.OneWayFlightQuery;
+import travel.query.FlightPage;
+import travel.query.FlightPageToken;
+import travel.query.FlightSort;
+import travel.query.RouteDayQuery;
 import travel.query.TwoWayFlightQuery;
 import travel.result.TwoWayFlightResult;
 
@@ -23,17 +28,11 @@ public class TwoWayFlightQueryHandler implements QueryHandler<TwoWayFlightResult
 
     @Override
     public TwoWayFlightResult handle(TwoWayFlightQuery query) {
-        if (query.getDepartureDate().isBefore(LocalDate.now()))
-            throw new PastDateException("The departure date can not be past.");
-
-        if (query.getReturnDate().isBefore(LocalDate.now()))
-            throw new PastDateException("The return date can not be past.");
+        validate(query);
 
-        if (query.getDepartureDate().isAfter(query.getReturnDate()))
-            throw new InvalidDateRangeException("Return date cannot be earlier than departure date.");
-
-        if (query.getDeparturePort().compareToIgnoreCase(query.getArrivalPort()) == 0)
-            throw new IdenticalDepartureAndArrivalException("The departure and arrival ports can not be identical.");
+        FlightSort sort = FlightSort.orDefault(query.getSort());
+        FlightPageToken departureAfter = FlightPageToken.decode(query.getDeparturePageToken(), sort);
+        FlightPageToken returnAfter = FlightPageToken.decode(query.getReturnPageToken(), sort);
 
         Port departure = portPort.findByName(query.getDeparturePort());
         Port arrival = portPort.findByName(query.getArrivalPort());
@@ -44,18 +43,26 @@ public class TwoWayFlightQueryHandler implements QueryHandler<TwoWayFlightResult
         if (arrival == null)
             throw new IncorrectPortNameException("The arrival port name is incorrect.");
 
-        OneWayFlightQuery departureQuery = OneWayFlightQuery.builder()
-                .departurePort(query.getDeparturePort())
-                .arrivalPort(query.getArrivalPort())
-                .departureDate(query.getDepartureDate())
-                .build();
-        OneWayFlightQuery returnQuery = OneWayFlightQuery.builder()
-                .departurePort(query.getArrivalPort())
-                .arrivalPort(query.getDeparturePort())
-                .departureDate(query.getReturnDate())
-                .build();
-        List<Flight> departureFlights = flightPort.getAvailableFlights(departureQuery);
-        List<Flight> returnFlights = flightPort.getAvailableFlights(returnQuery);
+        RoundTripFlights flights = flightPort.getRoundTripFlights(
+                RouteDayQuery.builder()
+                        .departure(departure)
+                        .arrival(arrival)
+                        .departureDate(query.getDepartureDate())
+                        .sort(query.getSort())
+                        .limit(query.getLimit())
+                        .pageToken(query.getDeparturePageToken())
+                        .build(),
+                RouteDayQuery.builder()
+                        .departure(arrival)
+                        .arrival(departure)
+                        .departureDate(query.getReturnDate())
+                        .sort(query.getSort())
+                        .limit(query.getLimit())
+                        .pageToken(query.getReturnPageToken())
+                        .build()
+        );
+        List<Flight> departureFlights = FlightPage.of(flights.getDepartureFlights(), sort, departureAfter, query.getLimit());
+        List<Flight> returnFlights = FlightPage.of(flights.getReturnFlights(), sort, returnAfter, query.getLimit());
 
         return TwoWayFlightResult.builder()
                 .departure(departure)
@@ -66,6 +73,34 @@ public class TwoWayFlightQueryHandler implements QueryHandler<TwoWayFlightResult
                 .returnDate(query.getReturnDate())
                 .departureFlights(departureFlights)
                 .returnFlights(returnFlights)
+                .departureNextPageToken(FlightPage.nextPageToken(departureFlights, sort, query.getLimit()))
+                .returnNextPageToken(FlightPage.nextPageToken(returnFlights, sort, query.getLimit()))
                 .build();
     }
+
+    /**
+     * Checks everything that can be checked without the ports or flights, so callers that
+     * fetch those themselves can reject a query before going to the database.
+     */
+    public static void validate(TwoWayFlightQuery query) {
+        if (query.getDepartureDate().isBefore(LocalDate.now()))
+            throw new PastDateException("The departure date can not be past.");
+
+        if (query.getReturnDate().isBefore(LocalDate.now()))
+            throw new PastDateException("The return date can not be past.");
+
+        if (query.getDepartureDate().isAfter(query.getReturnDate()))
+            throw new InvalidDateRangeException("Return date cannot be earlier than departure date.");
+
+        if (query.getDeparturePort().compareToIgnoreCase(query.getArrivalPort()) == 0)
+            throw new IdenticalDepartureAndArrivalException("The departure and arrival ports can not be identical.");
+
+        if (query.getLimit() < 0)
+            throw new InvalidPageRequestException("The limit can not be negative.");
+
+        FlightSort sort = FlightSort.orDefault(query.getSort());
+
+        FlightPageToken.decode(query.getDeparturePageToken(), sort);
+        FlightPageToken.decode(query.getReturnPageToken(), sort);
+    }
 }
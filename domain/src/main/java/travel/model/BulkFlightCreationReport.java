@@ -0,0 +1,14 @@
+package travel.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkFlightCreationReport {
+    private int createdCount;
+    private int failedCount;
+    private List<FlightCreationError> errors;
+}
@@ -0,0 +1,21 @@
+package travel.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * A committed change, numbered in the order it was published. Sequence numbers only
+ * grow, so a consumer that remembers the last one it applied can resume from there.
+ * Carries the created {@link Port} or {@link Flight}, depending on the type.
+ */
+@Value
+@Builder
+public class ChangeEvent {
+    long sequence;
+    ChangeType type;
+    LocalDateTime createdAt;
+    Port port;
+    Flight flight;
+}
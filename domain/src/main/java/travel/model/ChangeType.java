@@ -0,0 +1,6 @@
+package travel.model;
+
+public enum ChangeType {
+    PORT_CREATED,
+    FLIGHT_CREATED
+}
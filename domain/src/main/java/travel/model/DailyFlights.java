@@ -0,0 +1,20 @@
+package travel.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class DailyFlights {
+    private LocalDate date;
+    private int flightCount;
+    /**
+     * The cheapest flight in each currency, ordered by currency. Amounts in different
+     * currencies are not comparable, so there is no single cheapest flight.
+     */
+    private List<Flight> cheapestFlights;
+    private List<Flight> flights;
+}
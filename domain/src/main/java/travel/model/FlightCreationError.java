@@ -0,0 +1,11 @@
+package travel.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class FlightCreationError {
+    private int index;
+    private String message;
+}
@@ -0,0 +1,16 @@
+package travel.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class Itinerary {
+    private int connectionCount;
+    private LocalDateTime departureTime;
+    private LocalDateTime lastDepartureTime;
+    private List<Flight> flights;
+}
@@ -1,13 +1,22 @@
 package travel.model;
 
 import lombok.Builder;
-import lombok.Data;
+import lombok.Value;
 
 import java.util.UUID;
 
-@Data
+/**
+ * Immutable, so a single instance per port can be shared by every flight and result
+ * that refers to it.
+ * <p>
+ * {@code code} is a small integer assigned when the port is created. Codes are dense,
+ * so adapters can key indexes and caches on it (or use it as an array index) instead
+ * of hashing names or ids; names are only resolved at the API boundary.
+ */
+@Value
 @Builder
 public class Port {
-    private UUID id;
-    private String name;
+    UUID id;
+    int code;
+    String name;
 }
@@ -0,0 +1,13 @@
+package travel.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class RoundTripFlights {
+    private List<Flight> departureFlights;
+    private List<Flight> returnFlights;
+}
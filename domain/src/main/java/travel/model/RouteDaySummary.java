@@ -0,0 +1,60 @@
+package travel.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregates of the flights of one route departing on one day, per currency.
+ */
+@Data
+@Builder
+public class RouteDaySummary {
+    private LocalDate date;
+    private String currency;
+    private int flightCount;
+    private double minAmount;
+    private double maxAmount;
+    private LocalDateTime earliestDepartureTime;
+
+    /**
+     * Summarises flights of a single route, ordered by date and currency.
+     */
+    public static List<RouteDaySummary> summarise(List<Flight> flights) {
+        Map<LocalDate, Map<String, RouteDaySummary>> summaries = new TreeMap<>();
+
+        for (Flight flight : flights) {
+            LocalDate date = flight.getDepartureTime().toLocalDate();
+            Map<String, RouteDaySummary> byCurrency = summaries.computeIfAbsent(date, key -> new TreeMap<>());
+            RouteDaySummary summary = byCurrency.get(flight.getCurrency());
+
+            if (summary == null) {
+                byCurrency.put(flight.getCurrency(), RouteDaySummary.builder()
+                        .date(date)
+                        .currency(flight.getCurrency())
+                        .flightCount(1)
+                        .minAmount(flight.getAmount())
+                        .maxAmount(flight.getAmount())
+                        .earliestDepartureTime(flight.getDepartureTime())
+                        .build());
+                continue;
+            }
+
+            summary.setFlightCount(summary.getFlightCount() + 1);
+            summary.setMinAmount(Math.min(summary.getMinAmount(), flight.getAmount()));
+            summary.setMaxAmount(Math.max(summary.getMaxAmount(), flight.getAmount()));
+
+            if (flight.getDepartureTime().isBefore(summary.getEarliestDepartureTime()))
+                summary.setEarliestDepartureTime(flight.getDepartureTime());
+        }
+
+        return summaries.values().stream()
+                .flatMap(byCurrency -> byCurrency.values().stream())
+                .toList();
+    }
+}
@@ -0,0 +1,31 @@
+package travel.port;
+
+import travel.model.ChangeEvent;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Ordered feed of committed port and flight creations, for structures derived from
+ * them that want to update incrementally instead of polling or rebuilding.
+ */
+public interface ChangeFeedPort {
+    /**
+     * Returns up to {@code limit} published events with a sequence greater than the given
+     * one, in sequence order.
+     */
+    List<ChangeEvent> getChangesAfter(long sequence, int limit);
+
+    /**
+     * Returns the sequence of the last published event, 0 if there is none yet.
+     */
+    long getLastSequence();
+
+    /**
+     * Delivers every event after {@code sequence} to the listener, first the ones already
+     * published and then new ones as they are published, in order and one at a time. If
+     * the listener throws, the same event is delivered again later. Closing the returned
+     * handle stops delivery.
+     */
+    AutoCloseable subscribe(long sequence, Consumer<ChangeEvent> listener);
+}
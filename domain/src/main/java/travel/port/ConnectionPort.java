@@ -0,0 +1,18 @@
+package travel.port;
+
+import travel.model.Flight;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Time-ordered view of the whole network that connection searches scan. Implementations
+ * should answer from an index kept sorted by departure time rather than from a query per
+ * search.
+ */
+public interface ConnectionPort {
+    /**
+     * Returns every flight departing within the inclusive range, ordered by departure time.
+     */
+    List<Flight> getFlightsDepartingBetween(LocalDateTime from, LocalDateTime to);
+}
@@ -2,11 +2,98 @@ package travel.port;
 
 import travel.command.FlightCreationCommand;
 import travel.model.Flight;
-import travel.query.OneWayFlightQuery;
+import travel.model.Port;
+import travel.model.RoundTripFlights;
+import travel.model.RouteDaySummary;
+import travel.query.RouteDayQuery;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
+/**
+ * Searches take ports the handlers have already resolved from the query's names, so
+ * adapters never look a name up again.
+ */
 public interface FlightPort {
-    List<Flight> getAvailableFlights(OneWayFlightQuery query);
+    /**
+     * Returns the flights of a route-day. Adapters may push the query's sort order, page
+     * token and limit down into their storage; handlers re-apply them in memory through
+     * {@link travel.query.FlightPage}, so adapters that ignore them stay correct.
+     */
+    List<Flight> getAvailableFlights(RouteDayQuery query);
     Flight createFlight(FlightCreationCommand command);
+
+    /**
+     * Creates already validated flights. Adapters should write them in batches; the
+     * default creates them one by one.
+     */
+    default List<Flight> createFlights(List<FlightCreationCommand> commands) {
+        return commands.stream()
+                .map(this::createFlight)
+                .toList();
+    }
+
+    /**
+     * Same as {@link #getAvailableFlights(RouteDayQuery)}, but lets adapters hand out
+     * the flights one by one from an open cursor instead of a materialised list. The
+     * caller must close the returned stream.
+     */
+    default Stream<Flight> streamAvailableFlights(RouteDayQuery query) {
+        return getAvailableFlights(query).stream();
+    }
+
+    /**
+     * Returns the flights of every query's route-day, in query order. Adapters should
+     * fetch them in as few round trips as possible; the default issues one
+     * {@link #getAvailableFlights(RouteDayQuery)} call per query.
+     */
+    default List<List<Flight>> getAvailableFlightsOfAll(List<RouteDayQuery> queries) {
+        return queries.stream()
+                .map(this::getAvailableFlights)
+                .toList();
+    }
+
+    /**
+     * Returns the flights of a route departing on any day of the inclusive date range,
+     * ordered by departure time. The default issues one
+     * {@link #getAvailableFlights(RouteDayQuery)} call per day.
+     */
+    default List<Flight> getAvailableFlightsBetween(Port departure, Port arrival, LocalDate from, LocalDate to) {
+        List<Flight> flights = new ArrayList<>();
+
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            flights.addAll(getAvailableFlights(RouteDayQuery.builder()
+                    .departure(departure)
+                    .arrival(arrival)
+                    .departureDate(date)
+                    .build()));
+        }
+
+        return flights;
+    }
+
+    /**
+     * Returns per-day, per-currency aggregates of a route over the inclusive date range,
+     * ordered by date and currency. Adapters should answer from maintained aggregates;
+     * the default loads the flights through
+     * {@link #getAvailableFlightsBetween(Port, Port, LocalDate, LocalDate)}.
+     */
+    default List<RouteDaySummary> getRouteDaySummaries(Port departure, Port arrival, LocalDate from, LocalDate to) {
+        return RouteDaySummary.summarise(getAvailableFlightsBetween(departure, arrival, from, to));
+    }
+
+    /**
+     * Fetches both legs of a round trip; the return query covers the reverse route of the
+     * departure query. Adapters that can load the outbound and return flights together
+     * should override this; the default issues one
+     * {@link #getAvailableFlights(RouteDayQuery)} call per leg.
+     */
+    default RoundTripFlights getRoundTripFlights(RouteDayQuery departureQuery, RouteDayQuery returnQuery) {
+        return RoundTripFlights.builder()
+                .departureFlights(getAvailableFlights(departureQuery))
+                .returnFlights(getAvailableFlights(returnQuery))
+                .build();
+    }
 }
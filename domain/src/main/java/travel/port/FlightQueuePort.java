@@ -0,0 +1,19 @@
+package travel.port;
+
+import travel.command.FlightCreationCommand;
+import travel.model.Flight;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Accepts already validated flights for asynchronous creation. Adapters may group
+ * queued flights from many callers into one transaction.
+ */
+public interface FlightQueuePort {
+    /**
+     * Queues the flight and returns a future that completes with the created flight
+     * once its transaction has committed, or exceptionally if it could not be written.
+     * Adapters throw instead of queueing when they can not take more flights.
+     */
+    CompletableFuture<Flight> enqueue(FlightCreationCommand command);
+}
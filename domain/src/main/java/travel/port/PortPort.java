@@ -3,7 +3,30 @@ package travel.port;
 import travel.command.PortCreationCommand;
 import travel.model.Port;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 public interface PortPort {
     Port findByName(String name);
     Port createPort(PortCreationCommand command);
+
+    /**
+     * Looks up many names at once and maps every name that was found, lower-cased, to
+     * its port. Adapters should resolve them in one query; the default calls
+     * {@link #findByName(String)} per name.
+     */
+    default Map<String, Port> findAllByNames(Collection<String> names) {
+        Map<String, Port> ports = new HashMap<>();
+
+        for (String name : names) {
+            Port port = findByName(name);
+
+            if (port != null)
+                ports.put(name.toLowerCase(Locale.ROOT), port);
+        }
+
+        return ports;
+    }
 }
@@ -0,0 +1,12 @@
+package travel.query;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BatchFlightQuery implements Query {
+    private List<OneWayFlightQuery> queries;
+}
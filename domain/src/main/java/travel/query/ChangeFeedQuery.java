@@ -0,0 +1,11 @@
+package travel.query;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ChangeFeedQuery implements Query {
+    private long afterSequence;
+    private int limit;
+}
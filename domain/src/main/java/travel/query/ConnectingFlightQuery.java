@@ -0,0 +1,21 @@
+package travel.query;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class ConnectingFlightQuery implements Query {
+    private String departurePort;
+    private String arrivalPort;
+    private LocalDate departureDate;
+    @Builder.Default
+    private int maxConnections = 1;
+    @Builder.Default
+    private Duration minConnectionTime = Duration.ofMinutes(45);
+    @Builder.Default
+    private Duration maxTotalDuration = Duration.ofHours(24);
+}
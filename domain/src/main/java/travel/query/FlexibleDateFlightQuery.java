@@ -0,0 +1,16 @@
+package travel.query;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class FlexibleDateFlightQuery implements Query {
+    private String departurePort;
+    private String arrivalPort;
+    private LocalDate departureDate;
+    @Builder.Default
+    private int flexibilityDays = 3;
+}
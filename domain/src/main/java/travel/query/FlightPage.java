@@ -0,0 +1,35 @@
+package travel.query;
+
+import travel.model.Flight;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Applies sort order, keyset position and limit to flights in memory. Adapters that push
+ * these down into their queries return lists this leaves unchanged; for the others it
+ * does the whole job.
+ */
+public final class FlightPage {
+    private FlightPage() {
+    }
+
+    public static List<Flight> of(List<Flight> flights, FlightSort sort, FlightPageToken after, int limit) {
+        Stream<Flight> page = flights.stream().sorted(sort.comparator());
+
+        if (after != null)
+            page = page.filter(after::precedes);
+
+        if (limit > 0)
+            page = page.limit(limit);
+
+        return page.toList();
+    }
+
+    public static String nextPageToken(List<Flight> page, FlightSort sort, int limit) {
+        if (limit == 0 || page.size() < limit)
+            return null;
+
+        return FlightPageToken.after(sort, page.get(page.size() - 1)).encode();
+    }
+}
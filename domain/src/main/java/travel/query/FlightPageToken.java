@@ -0,0 +1,73 @@
+package travel.query;
+
+import lombok.Value;
+import travel.exception.InvalidPageRequestException;
+import travel.model.Flight;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset pagination position: the sort key and id of the last flight of a page. The
+ * next page starts right after it, so adapters can seek straight to it through an
+ * index instead of skipping rows.
+ */
+@Value
+public class FlightPageToken {
+    FlightSort sort;
+    LocalDateTime departureTime;
+    double amount;
+    UUID id;
+
+    public static FlightPageToken after(FlightSort sort, Flight flight) {
+        return new FlightPageToken(sort, flight.getDepartureTime(), flight.getAmount(), flight.getId());
+    }
+
+    public static FlightPageToken decode(String token, FlightSort sort) {
+        if (token == null)
+            return null;
+
+        FlightPageToken decoded;
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+
+            decoded = new FlightPageToken(
+                    FlightSort.valueOf(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Double.parseDouble(parts[2]),
+                    UUID.fromString(parts[3])
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidPageRequestException("The page token is malformed.");
+        }
+
+        if (decoded.sort != sort)
+            throw new InvalidPageRequestException("The page token belongs to a different sort order.");
+
+        return decoded;
+    }
+
+    public String encode() {
+        String raw = sort.name() + "|" + departureTime + "|" + amount + "|" + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Whether the given flight comes after this position in the sort order.
+     */
+    public boolean precedes(Flight flight) {
+        return sort.comparator().compare(asFlight(), flight) < 0;
+    }
+
+    private Flight asFlight() {
+        return Flight.builder()
+                .id(id)
+                .departureTime(departureTime)
+                .amount(amount)
+                .build();
+    }
+}
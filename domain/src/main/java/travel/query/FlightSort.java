@@ -0,0 +1,39 @@
+package travel.query;
+
+import travel.model.Flight;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+public enum FlightSort {
+    DEPARTURE_TIME(Comparator.comparing(Flight::getDepartureTime)),
+    PRICE(Comparator.comparingDouble(Flight::getAmount));
+
+    private final Comparator<Flight> comparator;
+
+    FlightSort(Comparator<Flight> key) {
+        this.comparator = key.thenComparing(Flight::getId, FlightSort::compareIds);
+    }
+
+    /**
+     * Total order of the sort, with the flight id as tie-breaker so that pages never
+     * overlap or skip flights sharing the same sort key.
+     */
+    public Comparator<Flight> comparator() {
+        return comparator;
+    }
+
+    public static FlightSort orDefault(FlightSort sort) {
+        return sort == null ? DEPARTURE_TIME : sort;
+    }
+
+    /**
+     * Compares ids as unsigned 128-bit values, the order databases use for UUID columns,
+     * unlike {@link UUID#compareTo(UUID)}.
+     */
+    public static int compareIds(UUID first, UUID second) {
+        int order = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+
+        return order != 0 ? order : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,15 @@
+package travel.query;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class FlightSummaryQuery implements Query {
+    private String departurePort;
+    private String arrivalPort;
+    private LocalDate firstDate;
+    private LocalDate lastDate;
+}
@@ -11,4 +11,10 @@ public class OneWayFlightQuery implements Query {
     private String departurePort;
     private String arrivalPort;
     private LocalDate departureDate;
+    private FlightSort sort;
+    /**
+     * Maximum number of flights per page, 0 for all of them.
+     */
+    private int limit;
+    private String pageToken;
 }
@@ -0,0 +1,39 @@
+package travel.query;
+
+import lombok.Builder;
+import lombok.Data;
+import travel.model.Port;
+
+import java.time.LocalDate;
+
+/**
+ * A route-day search as handed to {@link travel.port.FlightPort}: the handler has already
+ * resolved the port names, so adapters work with ports and their codes only.
+ */
+@Data
+@Builder
+public class RouteDayQuery {
+    private Port departure;
+    private Port arrival;
+    private LocalDate departureDate;
+    private FlightSort sort;
+    /**
+     * Maximum number of flights per page, 0 for all of them.
+     */
+    private int limit;
+    private String pageToken;
+
+    /**
+     * The one-way query's route-day between the ports its names were resolved to.
+     */
+    public static RouteDayQuery of(Port departure, Port arrival, OneWayFlightQuery query) {
+        return RouteDayQuery.builder()
+                .departure(departure)
+                .arrival(arrival)
+                .departureDate(query.getDepartureDate())
+                .sort(query.getSort())
+                .limit(query.getLimit())
+                .pageToken(query.getPageToken())
+                .build();
+    }
+}
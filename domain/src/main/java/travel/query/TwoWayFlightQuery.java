@@ -12,4 +12,11 @@ public class TwoWayFlightQuery implements Query {
     private String arrivalPort;
     private LocalDate departureDate;
     private LocalDate returnDate;
+    private FlightSort sort;
+    /**
+     * Maximum number of flights per page, 0 for all of them.
+     */
+    private int limit;
+    private String departurePageToken;
+    private String returnPageToken;
 }
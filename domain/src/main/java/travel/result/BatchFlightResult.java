@@ -0,0 +1,14 @@
+package travel.result;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BatchFlightResult implements Result {
+    private int succeededCount;
+    private int failedCount;
+    private List<BatchFlightResultItem> results;
+}
@@ -0,0 +1,15 @@
+package travel.result;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Outcome of one query of a batch: either its result or the reason it was rejected.
+ */
+@Data
+@Builder
+public class BatchFlightResultItem {
+    private int index;
+    private OneWayFlightResult result;
+    private String error;
+}
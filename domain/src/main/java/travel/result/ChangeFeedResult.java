@@ -0,0 +1,14 @@
+package travel.result;
+
+import lombok.Builder;
+import lombok.Data;
+import travel.model.ChangeEvent;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ChangeFeedResult implements Result {
+    private List<ChangeEvent> events;
+    private long lastSequence;
+}
@@ -0,0 +1,19 @@
+package travel.result;
+
+import lombok.Builder;
+import lombok.Data;
+import travel.model.Itinerary;
+import travel.model.Port;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class ConnectingFlightResult implements Result {
+    private Port departure;
+    private Port arrival;
+    private int itineraryCount;
+    private LocalDate departureDate;
+    private List<Itinerary> itineraries;
+}
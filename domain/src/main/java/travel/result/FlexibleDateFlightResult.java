@@ -0,0 +1,21 @@
+package travel.result;
+
+import lombok.Builder;
+import lombok.Data;
+import travel.model.DailyFlights;
+import travel.model.Port;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class FlexibleDateFlightResult implements Result {
+    private Port departure;
+    private Port arrival;
+    private int flightCount;
+    private LocalDate departureDate;
+    private LocalDate firstDate;
+    private LocalDate lastDate;
+    private List<DailyFlights> days;
+}
@@ -0,0 +1,20 @@
+package travel.result;
+
+import lombok.Builder;
+import lombok.Data;
+import travel.model.Port;
+import travel.model.RouteDaySummary;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class FlightSummaryResult implements Result {
+    private Port departure;
+    private Port arrival;
+    private int flightCount;
+    private LocalDate firstDate;
+    private LocalDate lastDate;
+    private List<RouteDaySummary> days;
+}
@@ -16,4 +16,5 @@ public class OneWayFlightResult implements Result {
     private int flightCount;
     private LocalDate departureDate;
     private List<Flight> flights;
+    private String nextPageToken;
 }
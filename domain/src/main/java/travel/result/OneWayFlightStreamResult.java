@@ -0,0 +1,22 @@
+package travel.result;
+
+import lombok.Builder;
+import lombok.Data;
+import travel.model.Flight;
+import travel.model.Port;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+/**
+ * Same search as {@link OneWayFlightResult}, but the flights are handed out as a lazily
+ * populated stream that the caller must consume and close.
+ */
+@Data
+@Builder
+public class OneWayFlightStreamResult implements Result {
+    private Port departure;
+    private Port arrival;
+    private LocalDate departureDate;
+    private Stream<Flight> flights;
+}
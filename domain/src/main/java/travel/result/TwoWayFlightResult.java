@@ -19,4 +19,6 @@ public class TwoWayFlightResult implements Result {
     private LocalDate returnDate;
     private List<Flight> departureFlights;
     private List<Flight> returnFlights;
+    private String departureNextPageToken;
+    private String returnNextPageToken;
 }
@@ -0,0 +1,169 @@
+package travel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import travel.exception.TooManyQueriesException;
+import travel.handler.BatchFlightQueryHandler;
+import travel.handler.QueryHandler;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.port.FlightPort;
+import travel.port.PortPort;
+import travel.query.BatchFlightQuery;
+import travel.query.FlightSort;
+import travel.query.OneWayFlightQuery;
+import travel.query.RouteDayQuery;
+import travel.result.BatchFlightResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class BatchFlightQueryHandlerTests {
+    private FlightPort flightPort;
+    private PortPort portPort;
+    private QueryHandler<BatchFlightResult, BatchFlightQuery> handler;
+    private final LocalDate date = LocalDate.now().plusDays(10);
+    private final Port istanbul = Port.builder()
+            .id(UUID.randomUUID())
+            .name("istanbul")
+            .build();
+    private final Port ankara = Port.builder()
+            .id(UUID.randomUUID())
+            .name("ankara")
+            .build();
+    private final Flight expensive = flight(istanbul, ankara, date.atTime(9, 0), 399.99);
+    private final Flight cheap = flight(istanbul, ankara, date.atTime(18, 0), 149.99);
+    private final Flight back = flight(ankara, istanbul, date.plusDays(2).atTime(12, 0), 199.99);
+
+    @BeforeEach
+    void init(@Mock FlightPort flightPort, @Mock PortPort portPort) {
+        this.flightPort = flightPort;
+        this.portPort = portPort;
+        handler = new BatchFlightQueryHandler(flightPort, portPort);
+        when(portPort.findAllByNames(anyCollection())).thenReturn(Map.of("istanbul", istanbul, "ankara", ankara));
+        when(flightPort.getAvailableFlightsOfAll(anyList())).thenAnswer(invocation -> {
+            List<RouteDayQuery> queries = invocation.getArgument(0);
+
+            return queries.stream()
+                    .map(query -> query.getDeparture() == istanbul ? List.of(expensive, cheap) : List.of(back))
+                    .toList();
+        });
+    }
+
+    @Test
+    void givenResultsInRequestOrder_whenBatchPassed() {
+        BatchFlightResult result = handler.handle(batch(
+                query("istanbul", "ankara", date),
+                query("Ankara", "ISTANBUL", date.plusDays(2)),
+                OneWayFlightQuery.builder().departurePort("istanbul").arrivalPort("ankara").departureDate(date)
+                        .sort(FlightSort.PRICE).limit(1).build()
+        ));
+
+        verify(portPort, times(1)).findAllByNames(Set.of("istanbul", "ankara", "Ankara", "ISTANBUL"));
+        verify(portPort, never()).findByName(anyString());
+        verify(flightPort, times(1)).getAvailableFlightsOfAll(anyList());
+        verify(flightPort, never()).getAvailableFlights(any(RouteDayQuery.class));
+        assertEquals(3, result.getSucceededCount());
+        assertEquals(0, result.getFailedCount());
+        assertEquals(List.of(expensive, cheap), result.getResults().get(0).getResult().getFlights());
+        assertEquals(ankara, result.getResults().get(1).getResult().getDeparture());
+        assertEquals(List.of(back), result.getResults().get(1).getResult().getFlights());
+        assertEquals(List.of(cheap), result.getResults().get(2).getResult().getFlights());
+        assertNotNull(result.getResults().get(2).getResult().getNextPageToken());
+        assertEquals(2, result.getResults().get(2).getIndex());
+    }
+
+    @Test
+    void givenPerItemErrors_whenSomeQueriesInvalid() {
+        BatchFlightResult result = handler.handle(batch(
+                query("istanbul", "ankara", LocalDate.now().minusDays(1)),
+                query("istanbul", "does-not-exist", date),
+                query("istanbul", "ankara", date),
+                query("ankara", "Ankara", date),
+                OneWayFlightQuery.builder().departurePort("istanbul").build()
+        ));
+
+        verify(flightPort).getAvailableFlightsOfAll(List.of(RouteDayQuery.of(istanbul, ankara, query("istanbul", "ankara", date))));
+        assertEquals(1, result.getSucceededCount());
+        assertEquals(4, result.getFailedCount());
+        assertEquals("The departure date can not be past.", result.getResults().get(0).getError());
+        assertEquals("The arrival port name is incorrect.", result.getResults().get(1).getError());
+        assertNull(result.getResults().get(2).getError());
+        assertEquals(2, result.getResults().get(2).getResult().getFlightCount());
+        assertEquals("The departure and arrival ports can not be identical.", result.getResults().get(3).getError());
+        assertEquals("The query is missing required fields.", result.getResults().get(4).getError());
+        assertNull(result.getResults().get(4).getResult());
+    }
+
+    @Test
+    void givenNoFlightLookup_whenEveryQueryInvalid() {
+        BatchFlightResult result = handler.handle(batch(query("istanbul", "ankara", LocalDate.now().minusDays(1))));
+
+        verify(portPort, never()).findAllByNames(anyCollection());
+        verify(flightPort, never()).getAvailableFlightsOfAll(anyList());
+        assertEquals(1, result.getFailedCount());
+    }
+
+    @Test
+    void givenDefaultPortLookupsPerName_whenAdapterHasNoBatchLookup() {
+        when(portPort.findAllByNames(anyCollection())).thenCallRealMethod();
+        when(portPort.findByName("Istanbul")).thenReturn(istanbul);
+        when(portPort.findByName("ankara")).thenReturn(ankara);
+
+        BatchFlightResult result = handler.handle(batch(query("Istanbul", "ankara", date)));
+
+        assertEquals(1, result.getSucceededCount());
+        assertEquals(istanbul, result.getResults().get(0).getResult().getDeparture());
+    }
+
+    @Test
+    void throwsTooManyQueriesException_whenBatchTooLarge() {
+        BatchFlightQuery batch = BatchFlightQuery.builder()
+                .queries(Collections.nCopies(BatchFlightQueryHandler.MAX_QUERIES + 1, query("istanbul", "ankara", date)))
+                .build();
+
+        assertThrows(TooManyQueriesException.class, () -> handler.handle(batch));
+        verify(flightPort, never()).getAvailableFlightsOfAll(anyList());
+    }
+
+    private static BatchFlightQuery batch(OneWayFlightQuery... queries) {
+        return BatchFlightQuery.builder()
+                .queries(List.of(queries))
+                .build();
+    }
+
+    private static OneWayFlightQuery query(String departure, String arrival, LocalDate date) {
+        return OneWayFlightQuery.builder()
+                .departurePort(departure)
+                .arrivalPort(arrival)
+                .departureDate(date)
+                .build();
+    }
+
+    private static Flight flight(Port departure, Port arrival, LocalDateTime departureTime, double amount) {
+        return Flight.builder()
+                .id(UUID.randomUUID())
+                .departure(departure)
+                .arrival(arrival)
+                .departureTime(departureTime)
+                .amount(amount)
+                .currency("TL")
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package travel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import travel.command.BulkFlightCreationCommand;
+import travel.command.FlightCreationCommand;
+import travel.handler.BulkFlightCreationCommandHandler;
+import travel.exception.FlightRejectedException;
+import travel.exception.TooManyFlightsException;
+import travel.handler.CommandHandler;
+import travel.model.BulkFlightCreationReport;
+import travel.model.Port;
+import travel.port.FlightPort;
+import travel.port.PortPort;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class BulkFlightCreationCommandHandlerTests {
+    private FlightPort flightPort;
+    private PortPort portPort;
+    private CommandHandler<BulkFlightCreationReport, BulkFlightCreationCommand> handler;
+    private final Port istanbul = Port.builder()
+            .id(UUID.randomUUID())
+            .name("istanbul")
+            .build();
+    private final Port ankara = Port.builder()
+            .id(UUID.randomUUID())
+            .name("ankara")
+            .build();
+
+    @BeforeEach
+    void init(@Mock FlightPort flightPort, @Mock PortPort portPort) {
+        this.flightPort = flightPort;
+        this.portPort = portPort;
+        this.handler = new BulkFlightCreationCommandHandler(flightPort, portPort);
+        when(portPort.findByName("istanbul")).thenReturn(istanbul);
+        when(portPort.findByName("ankara")).thenReturn(ankara);
+        when(portPort.findAllByNames(anyCollection())).thenCallRealMethod();
+    }
+
+    @Test
+    void givenReport_whenAllFlightsProper() {
+        var flights = List.of(flight("istanbul", "ankara", 10), flight("ankara", "istanbul", 12));
+
+        var report = handler.handle(BulkFlightCreationCommand.builder().flights(flights).build());
+
+        verify(flightPort).createFlights(flights);
+        verify(portPort, times(1)).findAllByNames(Set.of("istanbul", "ankara"));
+        assertEquals(2, report.getCreatedCount());
+        assertEquals(0, report.getFailedCount());
+        assertTrue(report.getErrors().isEmpty());
+    }
+
+    @Test
+    void givenErrorsWithIndexes_whenSomeFlightsInvalid() {
+        var proper = flight("istanbul", "ankara", 10);
+        var flights = List.of(
+                proper,
+                flight("istanbul", "istanbul", 10),
+                flight("istanbul", "ankara", -1),
+                flight("istanbul", "izmir", 10),
+                FlightCreationCommand.builder().departurePort("istanbul").build());
+
+        var report = handler.handle(BulkFlightCreationCommand.builder().flights(flights).build());
+
+        verify(flightPort).createFlights(List.of(proper));
+        assertEquals(1, report.getCreatedCount());
+        assertEquals(4, report.getFailedCount());
+        assertEquals(List.of(1, 2, 3, 4), report.getErrors().stream().map(error -> error.getIndex()).toList());
+        assertEquals("The arrival port name is incorrect.", report.getErrors().get(2).getMessage());
+    }
+
+    @Test
+    void givenNothingCreated_whenAllFlightsInvalid() {
+        var report = handler.handle(BulkFlightCreationCommand.builder()
+                .flights(List.of(flight("istanbul", "ankara", -1)))
+                .build());
+
+        verify(flightPort, never()).createFlights(anyList());
+        assertEquals(0, report.getCreatedCount());
+        assertEquals(1, report.getFailedCount());
+    }
+
+    @Test
+    void givenOnlyRejectedRowFailed_whenFlightPortRejectsBatch() {
+        var rejected = flight("istanbul", "ankara", 11);
+        var flights = List.of(
+                flight("istanbul", "ankara", 10),
+                flight("ankara", "istanbul", 10),
+                rejected,
+                flight("ankara", "istanbul", 12));
+
+        when(flightPort.createFlights(anyList())).thenAnswer(invocation -> {
+            if (invocation.<List<FlightCreationCommand>>getArgument(0).contains(rejected))
+                throw new FlightRejectedException("The flight violates a constraint of the flight store.");
+
+            return List.of();
+        });
+
+        var report = handler.handle(BulkFlightCreationCommand.builder().flights(flights).build());
+
+        verify(flightPort).createFlights(List.of(flights.get(0), flights.get(1)));
+        verify(flightPort).createFlights(List.of(flights.get(3)));
+        verify(flightPort, never()).createFlights(List.of(flights.get(0)));
+        assertEquals(3, report.getCreatedCount());
+        assertEquals(1, report.getFailedCount());
+        assertEquals(2, report.getErrors().get(0).getIndex());
+        assertEquals("The flight violates a constraint of the flight store.", report.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void throwsTooManyFlightsException_whenMoreFlightsThanAllowed() {
+        var flights = Collections.nCopies(BulkFlightCreationCommandHandler.MAX_FLIGHTS + 1, flight("istanbul", "ankara", 10));
+
+        assertThrows(TooManyFlightsException.class,
+                () -> handler.handle(BulkFlightCreationCommand.builder().flights(flights).build()));
+        verify(flightPort, never()).createFlights(anyList());
+    }
+
+    private static FlightCreationCommand flight(String departure, String arrival, int days) {
+        return FlightCreationCommand.builder()
+                .departurePort(departure)
+                .arrivalPort(arrival)
+                .departureTime(LocalDateTime.now().plusDays(days))
+                .amount(189.90)
+                .currency("TL")
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package travel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import travel.exception.InvalidPageRequestException;
+import travel.handler.ChangeFeedQueryHandler;
+import travel.handler.QueryHandler;
+import travel.model.ChangeEvent;
+import travel.model.ChangeType;
+import travel.model.Port;
+import travel.port.ChangeFeedPort;
+import travel.query.ChangeFeedQuery;
+import travel.result.ChangeFeedResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ChangeFeedQueryHandlerTests {
+    private ChangeFeedPort changeFeedPort;
+    private QueryHandler<ChangeFeedResult, ChangeFeedQuery> handler;
+    private final Port istanbul = Port.builder()
+            .id(UUID.randomUUID())
+            .code(1)
+            .name("istanbul")
+            .build();
+
+    @BeforeEach
+    void init(@Mock ChangeFeedPort changeFeedPort) {
+        this.changeFeedPort = changeFeedPort;
+        this.handler = new ChangeFeedQueryHandler(changeFeedPort);
+        when(changeFeedPort.getChangesAfter(anyLong(), anyInt())).thenReturn(List.of());
+        when(changeFeedPort.getChangesAfter(41, 2)).thenReturn(List.of(event(42), event(43)));
+    }
+
+    @Test
+    void givenEventsAndLastSequence_whenChangesQueried() {
+        var result = handler.handle(ChangeFeedQuery.builder().afterSequence(41).limit(2).build());
+
+        assertEquals(List.of(42L, 43L), result.getEvents().stream().map(ChangeEvent::getSequence).toList());
+        assertEquals(43, result.getLastSequence());
+    }
+
+    @Test
+    void givenSameSequence_whenNoNewChanges() {
+        var result = handler.handle(ChangeFeedQuery.builder().afterSequence(43).limit(2).build());
+
+        assertTrue(result.getEvents().isEmpty());
+        assertEquals(43, result.getLastSequence());
+    }
+
+    @Test
+    void givenDefaultLimit_whenLimitMissing() {
+        handler.handle(ChangeFeedQuery.builder().afterSequence(0).build());
+
+        verify(changeFeedPort).getChangesAfter(0, ChangeFeedQueryHandler.DEFAULT_LIMIT);
+    }
+
+    @Test
+    void throwsInvalidPageRequestException_whenSequenceOrLimitOutOfRange() {
+        assertThrows(InvalidPageRequestException.class,
+                () -> handler.handle(ChangeFeedQuery.builder().afterSequence(-1).build()));
+        assertThrows(InvalidPageRequestException.class,
+                () -> handler.handle(ChangeFeedQuery.builder().limit(ChangeFeedQueryHandler.MAX_LIMIT + 1).build()));
+
+        verify(changeFeedPort, never()).getChangesAfter(anyLong(), anyInt());
+    }
+
+    private ChangeEvent event(long sequence) {
+        return ChangeEvent.builder()
+                .sequence(sequence)
+                .type(ChangeType.PORT_CREATED)
+                .createdAt(LocalDateTime.now())
+                .port(istanbul)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package travel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncorrectPortNameException;
+import travel.exception.InvalidConnectionConstraintException;
+import travel.exception.PastDateException;
+import travel.handler.ConnectingFlightQueryHandler;
+import travel.handler.QueryHandler;
+import travel.model.Flight;
+import travel.model.Itinerary;
+import travel.model.Port;
+import travel.port.ConnectionPort;
+import travel.port.PortPort;
+import travel.query.ConnectingFlightQuery;
+import travel.result.ConnectingFlightResult;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ConnectingFlightQueryHandlerTests {
+    private ConnectionPort connectionPort;
+    private PortPort portPort;
+    private QueryHandler<ConnectingFlightResult, ConnectingFlightQuery> handler;
+    private final LocalDate date = LocalDate.now().plusDays(10);
+    private final Port istanbul = port(1, "istanbul");
+    private final Port ankara = port(2, "ankara");
+    private final Port izmir = port(3, "izmir");
+    private final Port adana = port(4, "adana");
+    private final Flight istanbulAdana = flight(istanbul, adana, 7, 0);
+    private final Flight istanbulAnkara = flight(istanbul, ankara, 8, 0);
+    private final Flight adanaAnkara = flight(adana, ankara, 8, 0);
+    private final Flight ankaraIzmirTooSoon = flight(ankara, izmir, 8, 20);
+    private final Flight ankaraIzmir = flight(ankara, izmir, 9, 30);
+    private final Flight ankaraIzmirLater = flight(ankara, izmir, 10, 0);
+    private final Flight izmirIstanbul = flight(izmir, istanbul, 11, 0);
+    private final Flight istanbulIzmir = flight(istanbul, izmir, 12, 0);
+
+    @BeforeEach
+    void init(@Mock ConnectionPort connectionPort, @Mock PortPort portPort) {
+        this.connectionPort = connectionPort;
+        this.portPort = portPort;
+        handler = new ConnectingFlightQueryHandler(connectionPort, portPort);
+        when(portPort.findByName("istanbul")).thenReturn(istanbul);
+        when(portPort.findByName("ankara")).thenReturn(ankara);
+        when(portPort.findByName("izmir")).thenReturn(izmir);
+        when(connectionPort.getFlightsDepartingBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(istanbulAdana, istanbulAnkara, adanaAnkara, ankaraIzmirTooSoon,
+                        ankaraIzmir, ankaraIzmirLater, izmirIstanbul, istanbulIzmir));
+    }
+
+    @Test
+    void givenDirectAndConnectingItineraries_whenQueryPassed() {
+        ConnectingFlightQuery query = query("istanbul", "izmir").build();
+
+        ConnectingFlightResult result = handler.handle(query);
+
+        verify(connectionPort).getFlightsDepartingBetween(date.atStartOfDay(), date.atTime(23, 59, 59, 999_999_999).plusHours(24));
+        assertEquals(result.getDeparture(), istanbul);
+        assertEquals(result.getArrival(), izmir);
+        assertEquals(3, result.getItineraryCount());
+        assertEquals(List.of(istanbulAnkara, ankaraIzmir), result.getItineraries().get(0).getFlights());
+        assertEquals(List.of(istanbulAnkara, ankaraIzmirLater), result.getItineraries().get(1).getFlights());
+        assertEquals(List.of(istanbulIzmir), result.getItineraries().get(2).getFlights());
+        assertEquals(1, result.getItineraries().get(0).getConnectionCount());
+        assertEquals(0, result.getItineraries().get(2).getConnectionCount());
+    }
+
+    @Test
+    void givenOnlyDirectItineraries_whenConnectionsNotAllowed() {
+        ConnectingFlightResult result = handler.handle(query("istanbul", "izmir").maxConnections(0).build());
+
+        assertEquals(1, result.getItineraryCount());
+        assertEquals(List.of(istanbulIzmir), result.getItineraries().get(0).getFlights());
+    }
+
+    @Test
+    void givenDominatedItinerariesPruned_whenMoreConnectionsAllowed() {
+        ConnectingFlightResult result = handler.handle(query("istanbul", "izmir").maxConnections(2).build());
+
+        assertEquals(3, result.getItineraryCount());
+        assertTrue(result.getItineraries().stream()
+                .map(Itinerary::getFlights)
+                .noneMatch(flights -> flights.contains(adanaAnkara)));
+    }
+
+    @Test
+    void givenItinerariesWithinLimit_whenMaxTotalDurationIsShort() {
+        ConnectingFlightResult result = handler.handle(query("istanbul", "izmir").maxTotalDuration(Duration.ofHours(1)).build());
+
+        assertEquals(1, result.getItineraryCount());
+        assertEquals(List.of(istanbulIzmir), result.getItineraries().get(0).getFlights());
+    }
+
+    @Test
+    void givenShortConnection_whenMinConnectionTimeAllowsIt() {
+        ConnectingFlightResult result = handler.handle(query("istanbul", "izmir").minConnectionTime(Duration.ofMinutes(15)).build());
+
+        assertEquals(List.of(istanbulAnkara, ankaraIzmirTooSoon), result.getItineraries().get(0).getFlights());
+    }
+
+    @Test
+    void givenNoLoopsBackThroughVisitedPorts_whenQueryPassed() {
+        ConnectingFlightResult result = handler.handle(query("ankara", "istanbul").maxConnections(3).build());
+
+        assertEquals(3, result.getItineraryCount());
+        result.getItineraries().forEach(itinerary -> assertEquals(List.of(itinerary.getFlights().get(0), izmirIstanbul), itinerary.getFlights()));
+    }
+
+    @Test
+    void throwsPastDateException_whenDepartureDatePast() {
+        ConnectingFlightQuery query = query("istanbul", "izmir").departureDate(LocalDate.now().minusDays(1)).build();
+
+        assertThrows(PastDateException.class, () -> handler.handle(query));
+        verify(connectionPort, never()).getFlightsDepartingBetween(any(), any());
+    }
+
+    @Test
+    void throwsIdenticalDepartureAndArrivalException_whenDepartureAndArrivalSame() {
+        assertThrows(IdenticalDepartureAndArrivalException.class, () -> handler.handle(query("izmir", "IZMIR").build()));
+    }
+
+    @Test
+    void throwsInvalidConnectionConstraintException_whenConstraintsInvalid() {
+        assertThrows(InvalidConnectionConstraintException.class,
+                () -> handler.handle(query("istanbul", "izmir").maxConnections(-1).build()));
+        assertThrows(InvalidConnectionConstraintException.class,
+                () -> handler.handle(query("istanbul", "izmir").maxConnections(ConnectingFlightQueryHandler.MAX_CONNECTIONS + 1).build()));
+        assertThrows(InvalidConnectionConstraintException.class,
+                () -> handler.handle(query("istanbul", "izmir").minConnectionTime(Duration.ofMinutes(-5)).build()));
+        assertThrows(InvalidConnectionConstraintException.class,
+                () -> handler.handle(query("istanbul", "izmir").maxTotalDuration(Duration.ZERO).build()));
+        assertThrows(InvalidConnectionConstraintException.class,
+                () -> handler.handle(query("istanbul", "izmir").maxTotalDuration(Duration.ofDays(1000)).build()));
+        verify(portPort, never()).findByName(any());
+    }
+
+    @Test
+    void throwsIncorrectPortNameException_whenArrivalPortNameDoesNotPointAny() {
+        assertThrows(IncorrectPortNameException.class, () -> handler.handle(query("istanbul", "does-not-exist").build()));
+        verify(connectionPort, never()).getFlightsDepartingBetween(any(), any());
+    }
+
+    private ConnectingFlightQuery.ConnectingFlightQueryBuilder query(String departure, String arrival) {
+        return ConnectingFlightQuery.builder()
+                .departurePort(departure)
+                .arrivalPort(arrival)
+                .departureDate(date);
+    }
+
+    private Flight flight(Port departure, Port arrival, int hour, int minute) {
+        return Flight.builder()
+                .id(UUID.randomUUID())
+                .departure(departure)
+                .arrival(arrival)
+                .departureTime(date.atTime(hour, minute))
+                .amount(199.99)
+                .currency("TL")
+                .build();
+    }
+
+    private static Port port(int code, String name) {
+        return Port.builder()
+                .id(UUID.randomUUID())
+                .code(code)
+                .name(name)
+                .build();
+    }
+}
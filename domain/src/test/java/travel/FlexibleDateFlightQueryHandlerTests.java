@@ -0,0 +1,190 @@
+package travel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncorrectPortNameException;
+import travel.exception.InvalidDateRangeException;
+import travel.exception.PastDateException;
+import travel.handler.FlexibleDateFlightQueryHandler;
+import travel.handler.QueryHandler;
+import travel.model.DailyFlights;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.port.FlightPort;
+import travel.port.PortPort;
+import travel.query.FlexibleDateFlightQuery;
+import travel.query.RouteDayQuery;
+import travel.result.FlexibleDateFlightResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class FlexibleDateFlightQueryHandlerTests {
+    private FlightPort flightPort;
+    private PortPort portPort;
+    private QueryHandler<FlexibleDateFlightResult, FlexibleDateFlightQuery> handler;
+    private final LocalDate date = LocalDate.now().plusDays(10);
+    private final Port istanbul = Port.builder()
+            .id(UUID.randomUUID())
+            .name("istanbul")
+            .build();
+    private final Port ankara = Port.builder()
+            .id(UUID.randomUUID())
+            .name("ankara")
+            .build();
+    private final Flight early = flight(date.minusDays(2).atTime(8, 0), 299.99);
+    private final Flight cheap = flight(date.atTime(9, 0), 149.99);
+    private final Flight expensive = flight(date.atTime(18, 0), 399.99);
+
+    @BeforeEach
+    void init(@Mock FlightPort flightPort, @Mock PortPort portPort) {
+        this.flightPort = flightPort;
+        this.portPort = portPort;
+        handler = new FlexibleDateFlightQueryHandler(flightPort, portPort);
+        when(portPort.findByName("istanbul")).thenReturn(istanbul);
+        when(portPort.findByName("ankara")).thenReturn(ankara);
+        when(flightPort.getAvailableFlightsBetween(any(Port.class), any(Port.class), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(early, cheap, expensive));
+    }
+
+    @Test
+    void givenFlightsGroupedPerDay_whenQueryPassed() {
+        FlexibleDateFlightResult result = handler.handle(query(date, 3));
+
+        verify(flightPort).getAvailableFlightsBetween(istanbul, ankara, date.minusDays(3), date.plusDays(3));
+        verify(flightPort, never()).getAvailableFlights(any(RouteDayQuery.class));
+        assertEquals(result.getDeparture(), istanbul);
+        assertEquals(result.getArrival(), ankara);
+        assertEquals(3, result.getFlightCount());
+        assertEquals(7, result.getDays().size());
+
+        DailyFlights earlyDay = result.getDays().get(1);
+        DailyFlights requestedDay = result.getDays().get(3);
+
+        assertEquals(date.minusDays(2), earlyDay.getDate());
+        assertEquals(List.of(early), earlyDay.getCheapestFlights());
+        assertEquals(date, requestedDay.getDate());
+        assertEquals(2, requestedDay.getFlightCount());
+        assertEquals(List.of(cheap), requestedDay.getCheapestFlights());
+        assertEquals(List.of(cheap, expensive), requestedDay.getFlights());
+        assertEquals(0, result.getDays().get(0).getFlightCount());
+        assertTrue(result.getDays().get(0).getCheapestFlights().isEmpty());
+    }
+
+    @Test
+    void givenCheapestFlightPerCurrency_whenCurrenciesMixed() {
+        Flight cheapInEuro = flight(date.atTime(12, 0), 19.99, "EUR");
+        Flight expensiveInEuro = flight(date.atTime(15, 0), 49.99, "EUR");
+
+        when(flightPort.getAvailableFlightsBetween(any(Port.class), any(Port.class), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(cheap, cheapInEuro, expensiveInEuro, expensive));
+
+        DailyFlights requestedDay = handler.handle(query(date, 0)).getDays().get(0);
+
+        assertEquals(4, requestedDay.getFlightCount());
+        assertEquals(List.of(cheapInEuro, cheap), requestedDay.getCheapestFlights());
+    }
+
+    @Test
+    void givenWindowClampedToToday_whenFlexibilityReachesPast() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+        FlexibleDateFlightResult result = handler.handle(query(tomorrow, 3));
+
+        verify(flightPort).getAvailableFlightsBetween(istanbul, ankara, LocalDate.now(), tomorrow.plusDays(3));
+        assertEquals(LocalDate.now(), result.getFirstDate());
+        assertEquals(5, result.getDays().size());
+    }
+
+    @Test
+    void givenDefaultPerDayLookups_whenAdapterHasNoRangeQuery() {
+        when(flightPort.getAvailableFlightsBetween(any(Port.class), any(Port.class), any(LocalDate.class), any(LocalDate.class)))
+                .thenCallRealMethod();
+        when(flightPort.getAvailableFlights(any(RouteDayQuery.class))).thenReturn(List.of());
+
+        handler.handle(query(date, 3));
+
+        verify(flightPort, times(7)).getAvailableFlights(any(RouteDayQuery.class));
+    }
+
+    @Test
+    void throwsPastDateException_whenDepartureDatePast() {
+        assertThrows(PastDateException.class, () -> handler.handle(query(LocalDate.now().minusDays(1), 3)));
+        verify(flightPort, never()).getAvailableFlightsBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void throwsInvalidDateRangeException_whenFlexibilityNegative() {
+        assertThrows(InvalidDateRangeException.class, () -> handler.handle(query(date, -1)));
+        verify(portPort, never()).findByName(anyString());
+    }
+
+    @Test
+    void throwsInvalidDateRangeException_whenFlexibilityTooLong() {
+        assertThrows(InvalidDateRangeException.class,
+                () -> handler.handle(query(date, FlexibleDateFlightQueryHandler.MAX_FLEXIBILITY_DAYS + 1)));
+        verify(flightPort, never()).getAvailableFlightsBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void throwsIdenticalDepartureAndArrivalException_whenDepartureAndArrivalSame() {
+        FlexibleDateFlightQuery query = FlexibleDateFlightQuery.builder()
+                .departurePort("ankara")
+                .arrivalPort("Ankara")
+                .departureDate(date)
+                .build();
+
+        assertThrows(IdenticalDepartureAndArrivalException.class, () -> handler.handle(query));
+    }
+
+    @Test
+    void throwsIncorrectPortNameException_whenDeparturePortNameDoesNotPointAny() {
+        FlexibleDateFlightQuery query = FlexibleDateFlightQuery.builder()
+                .departurePort("does-not-exist")
+                .arrivalPort("ankara")
+                .departureDate(date)
+                .build();
+
+        assertThrows(IncorrectPortNameException.class, () -> handler.handle(query));
+        verify(flightPort, never()).getAvailableFlightsBetween(any(), any(), any(), any());
+    }
+
+    private static FlexibleDateFlightQuery query(LocalDate date, int flexibilityDays) {
+        return FlexibleDateFlightQuery.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureDate(date)
+                .flexibilityDays(flexibilityDays)
+                .build();
+    }
+
+    private Flight flight(LocalDateTime departureTime, double amount) {
+        return flight(departureTime, amount, "TL");
+    }
+
+    private Flight flight(LocalDateTime departureTime, double amount, String currency) {
+        return Flight.builder()
+                .id(UUID.randomUUID())
+                .departure(istanbul)
+                .arrival(ankara)
+                .departureTime(departureTime)
+                .amount(amount)
+                .currency(currency)
+                .build();
+    }
+}
@@ -0,0 +1,195 @@
+package travel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncorrectPortNameException;
+import travel.exception.InvalidDateRangeException;
+import travel.exception.PastDateException;
+import travel.handler.FlightSummaryQueryHandler;
+import travel.handler.QueryHandler;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.model.RouteDaySummary;
+import travel.port.FlightPort;
+import travel.port.PortPort;
+import travel.query.FlightSummaryQuery;
+import travel.result.FlightSummaryResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class FlightSummaryQueryHandlerTests {
+    private FlightPort flightPort;
+    private PortPort portPort;
+    private QueryHandler<FlightSummaryResult, FlightSummaryQuery> handler;
+    private final LocalDate date = LocalDate.now().plusDays(10);
+    private final Port istanbul = Port.builder()
+            .id(UUID.randomUUID())
+            .name("istanbul")
+            .build();
+    private final Port ankara = Port.builder()
+            .id(UUID.randomUUID())
+            .name("ankara")
+            .build();
+    private final RouteDaySummary firstDay = RouteDaySummary.builder()
+            .date(date)
+            .currency("TL")
+            .flightCount(4)
+            .minAmount(149.99)
+            .maxAmount(399.99)
+            .earliestDepartureTime(date.atTime(6, 0))
+            .build();
+    private final RouteDaySummary secondDay = RouteDaySummary.builder()
+            .date(date.plusDays(1))
+            .currency("TL")
+            .flightCount(2)
+            .minAmount(199.99)
+            .maxAmount(249.99)
+            .earliestDepartureTime(date.plusDays(1).atTime(9, 0))
+            .build();
+
+    @BeforeEach
+    void init(@Mock FlightPort flightPort, @Mock PortPort portPort) {
+        this.flightPort = flightPort;
+        this.portPort = portPort;
+        handler = new FlightSummaryQueryHandler(flightPort, portPort);
+        when(portPort.findByName("istanbul")).thenReturn(istanbul);
+        when(portPort.findByName("ankara")).thenReturn(ankara);
+        when(flightPort.getRouteDaySummaries(any(Port.class), any(Port.class), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(firstDay, secondDay));
+    }
+
+    @Test
+    void givenSummariesWithoutLoadingFlights_whenQueryPassed() {
+        FlightSummaryResult result = handler.handle(query(date, date.plusDays(30)));
+
+        verify(flightPort).getRouteDaySummaries(istanbul, ankara, date, date.plusDays(30));
+        verify(flightPort, never()).getAvailableFlightsBetween(any(), any(), any(), any());
+        assertEquals(istanbul, result.getDeparture());
+        assertEquals(ankara, result.getArrival());
+        assertEquals(6, result.getFlightCount());
+        assertEquals(List.of(firstDay, secondDay), result.getDays());
+    }
+
+    @Test
+    void givenRangeClampedToToday_whenFirstDatePast() {
+        FlightSummaryResult result = handler.handle(query(LocalDate.now().minusDays(5), date));
+
+        verify(flightPort).getRouteDaySummaries(istanbul, ankara, LocalDate.now(), date);
+        assertEquals(LocalDate.now(), result.getFirstDate());
+    }
+
+    @Test
+    void givenDefaultSummariesPerDayAndCurrency_whenAdapterKeepsNoAggregates() {
+        List<Flight> flights = List.of(
+                flight(date.atTime(18, 0), 399.99, "TL"),
+                flight(date.plusDays(1).atTime(9, 0), 199.99, "TL"),
+                flight(date.atTime(9, 0), 149.99, "TL"),
+                flight(date.atTime(12, 0), 49.99, "EUR")
+        );
+
+        when(flightPort.getRouteDaySummaries(any(Port.class), any(Port.class), any(LocalDate.class), any(LocalDate.class)))
+                .thenCallRealMethod();
+        when(flightPort.getAvailableFlightsBetween(istanbul, ankara, date, date.plusDays(1))).thenReturn(flights);
+
+        FlightSummaryResult result = handler.handle(query(date, date.plusDays(1)));
+
+        assertEquals(4, result.getFlightCount());
+        assertEquals(3, result.getDays().size());
+        assertEquals(RouteDaySummary.builder()
+                .date(date)
+                .currency("EUR")
+                .flightCount(1)
+                .minAmount(49.99)
+                .maxAmount(49.99)
+                .earliestDepartureTime(date.atTime(12, 0))
+                .build(), result.getDays().get(0));
+        assertEquals(RouteDaySummary.builder()
+                .date(date)
+                .currency("TL")
+                .flightCount(2)
+                .minAmount(149.99)
+                .maxAmount(399.99)
+                .earliestDepartureTime(date.atTime(9, 0))
+                .build(), result.getDays().get(1));
+        assertEquals(date.plusDays(1), result.getDays().get(2).getDate());
+    }
+
+    @Test
+    void throwsPastDateException_whenLastDatePast() {
+        assertThrows(PastDateException.class, () -> handler.handle(query(LocalDate.now().minusDays(5), LocalDate.now().minusDays(1))));
+        verify(flightPort, never()).getRouteDaySummaries(any(), any(), any(), any());
+    }
+
+    @Test
+    void throwsInvalidDateRangeException_whenLastDateBeforeFirstDate() {
+        assertThrows(InvalidDateRangeException.class, () -> handler.handle(query(date, date.minusDays(1))));
+        verify(portPort, never()).findByName(anyString());
+    }
+
+    @Test
+    void throwsInvalidDateRangeException_whenRangeTooLong() {
+        assertThrows(InvalidDateRangeException.class, () -> handler.handle(query(date, date.plusDays(FlightSummaryQueryHandler.MAX_DAYS))));
+        verify(portPort, never()).findByName(anyString());
+    }
+
+    @Test
+    void throwsIdenticalDepartureAndArrivalException_whenDepartureAndArrivalSame() {
+        FlightSummaryQuery query = FlightSummaryQuery.builder()
+                .departurePort("ankara")
+                .arrivalPort("Ankara")
+                .firstDate(date)
+                .lastDate(date)
+                .build();
+
+        assertThrows(IdenticalDepartureAndArrivalException.class, () -> handler.handle(query));
+    }
+
+    @Test
+    void throwsIncorrectPortNameException_whenArrivalPortNameDoesNotPointAny() {
+        FlightSummaryQuery query = FlightSummaryQuery.builder()
+                .departurePort("istanbul")
+                .arrivalPort("does-not-exist")
+                .firstDate(date)
+                .lastDate(date)
+                .build();
+
+        assertThrows(IncorrectPortNameException.class, () -> handler.handle(query));
+        verify(flightPort, never()).getRouteDaySummaries(any(), any(), any(), any());
+    }
+
+    private static FlightSummaryQuery query(LocalDate firstDate, LocalDate lastDate) {
+        return FlightSummaryQuery.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .firstDate(firstDate)
+                .lastDate(lastDate)
+                .build();
+    }
+
+    private Flight flight(LocalDateTime departureTime, double amount, String currency) {
+        return Flight.builder()
+                .id(UUID.randomUUID())
+                .departure(istanbul)
+                .arrival(ankara)
+                .departureTime(departureTime)
+                .amount(amount)
+                .currency(currency)
+                .build();
+    }
+}
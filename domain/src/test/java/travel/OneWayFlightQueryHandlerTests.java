@@ -8,7 +8,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncompleteQueryException;
 import travel.exception.IncorrectPortNameException;
+import travel.exception.InvalidPageRequestException;
 import travel.exception.PastDateException;
 import travel.handler.OneWayFlightQueryHandler;
 import travel.handler.QueryHandler;
@@ -16,15 +18,20 @@ import travel.model.Flight;
 import travel.model.Port;
 import travel.port.FlightPort;
 import travel.port.PortPort;
+import travel.query.FlightPageToken;
+import travel.query.FlightSort;
 import travel.query.OneWayFlightQuery;
+import travel.query.RouteDayQuery;
 import travel.result.OneWayFlightResult;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,9 +67,9 @@ public class OneWayFlightQueryHandlerTests {
         handler = new OneWayFlightQueryHandler(flightPort, portPort);
         when(portPort.findByName("istanbul")).thenReturn(istanbul);
         when(portPort.findByName("ankara")).thenReturn(ankara);
-        when(flightPort.getAvailableFlights(any(OneWayFlightQuery.class)))
+        when(flightPort.getAvailableFlights(any(RouteDayQuery.class)))
                 .thenAnswer(invocation -> {
-                    OneWayFlightQuery query = invocation.getArgument(0);
+                    RouteDayQuery query = invocation.getArgument(0);
 
                     flights.forEach(f -> f.setDepartureTime(query.getDepartureDate().atTime(21, 11, 10)));
 
@@ -81,7 +88,7 @@ public class OneWayFlightQueryHandlerTests {
 
         OneWayFlightResult result = handler.handle(query);
 
-        verify(flightPort).getAvailableFlights(query);
+        verify(flightPort).getAvailableFlights(RouteDayQuery.of(istanbul, ankara, query));
         verify(portPort).findByName(query.getDeparturePort());
         verify(portPort).findByName(query.getArrivalPort());
         assertEquals(result.getDeparture(), istanbul);
@@ -91,6 +98,44 @@ public class OneWayFlightQueryHandlerTests {
         assertArrayEquals(result.getFlights().toArray(), flights.toArray());
     }
 
+    @Test
+    void givenKeysetPagesSortedByPrice_whenAdapterReturnsWholeDay() {
+        LocalDate requestedDepartureDate = LocalDate.now().plusDays(10);
+        List<Flight> day = List.of(
+                flight(requestedDepartureDate.atTime(9, 0), 299.99),
+                flight(requestedDepartureDate.atTime(12, 0), 99.99),
+                flight(requestedDepartureDate.atTime(18, 0), 199.99)
+        );
+
+        when(flightPort.getAvailableFlights(any(RouteDayQuery.class))).thenReturn(day);
+
+        OneWayFlightResult first = handler.handle(pageQuery(requestedDepartureDate, null));
+        OneWayFlightResult second = handler.handle(pageQuery(requestedDepartureDate, first.getNextPageToken()));
+
+        assertEquals(List.of(day.get(1), day.get(2)), first.getFlights());
+        assertEquals(2, first.getFlightCount());
+        assertNotNull(first.getNextPageToken());
+        assertEquals(List.of(day.get(0)), second.getFlights());
+        assertNull(second.getNextPageToken());
+    }
+
+    @Test
+    void throwsInvalidPageRequestException_whenPageTokenMalformed() {
+        OneWayFlightQuery query = pageQuery(LocalDate.now().plusDays(10), "not-a-token");
+
+        assertThrows(InvalidPageRequestException.class, () -> handler.handle(query));
+        verify(flightPort, never()).getAvailableFlights(any(RouteDayQuery.class));
+    }
+
+    @Test
+    void throwsInvalidPageRequestException_whenPageTokenFromAnotherSort() {
+        Flight flight = flight(LocalDate.now().plusDays(10).atTime(9, 0), 99.99);
+        OneWayFlightQuery query = pageQuery(LocalDate.now().plusDays(10),
+                FlightPageToken.after(FlightSort.DEPARTURE_TIME, flight).encode());
+
+        assertThrows(InvalidPageRequestException.class, () -> handler.handle(query));
+    }
+
     @Test
     void throwsPastTimeQueryException_whenDepartureDatePast() {
         LocalDate requestedDepartureDate = LocalDate.now().minusDays(10);
@@ -102,11 +147,23 @@ public class OneWayFlightQueryHandlerTests {
 
         assertThrows(PastDateException.class, () -> handler.handle(query));
 
-        verify(flightPort, never()).getAvailableFlights(query);
+        verify(flightPort, never()).getAvailableFlights(any(RouteDayQuery.class));
         verify(portPort, never()).findByName(query.getDeparturePort());
         verify(portPort, never()).findByName(query.getArrivalPort());
     }
 
+    @Test
+    void throwsIncompleteQueryException_whenDepartureDateMissing() {
+        OneWayFlightQuery query = mock(OneWayFlightQuery.class);
+
+        when(query.getDeparturePort()).thenReturn("istanbul");
+        when(query.getArrivalPort()).thenReturn("ankara");
+
+        assertThrows(IncompleteQueryException.class, () -> handler.handle(query));
+
+        verify(portPort, never()).findByName(any());
+    }
+
     @Test
     void throwsIncorrectPortNameException_whenDeparturePortNameDoesNotPointAny() {
         LocalDate requestedDepartureDate = LocalDate.now().plusDays(10);
@@ -151,4 +208,26 @@ public class OneWayFlightQueryHandlerTests {
         verify(portPort, never()).findByName(query.getDeparturePort());
         verify(portPort, never()).findByName(query.getArrivalPort());
     }
+
+    private static OneWayFlightQuery pageQuery(LocalDate departureDate, String pageToken) {
+        return OneWayFlightQuery.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureDate(departureDate)
+                .sort(FlightSort.PRICE)
+                .limit(2)
+                .pageToken(pageToken)
+                .build();
+    }
+
+    private Flight flight(LocalDateTime departureTime, double amount) {
+        return Flight.builder()
+                .id(UUID.randomUUID())
+                .departure(istanbul)
+                .arrival(ankara)
+                .departureTime(departureTime)
+                .amount(amount)
+                .currency("TL")
+                .build();
+    }
 }
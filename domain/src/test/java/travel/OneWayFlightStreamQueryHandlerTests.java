@@ -0,0 +1,109 @@
+package travel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncorrectPortNameException;
+import travel.exception.PastDateException;
+import travel.handler.OneWayFlightStreamQueryHandler;
+import travel.handler.QueryHandler;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.port.FlightPort;
+import travel.port.PortPort;
+import travel.query.OneWayFlightQuery;
+import travel.query.RouteDayQuery;
+import travel.result.OneWayFlightStreamResult;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OneWayFlightStreamQueryHandlerTests {
+    private FlightPort flightPort;
+    private PortPort portPort;
+    private QueryHandler<OneWayFlightStreamResult, OneWayFlightQuery> handler;
+    private final Port istanbul = Port.builder()
+            .id(UUID.randomUUID())
+            .name("istanbul")
+            .build();
+    private final Port ankara = Port.builder()
+            .id(UUID.randomUUID())
+            .name("ankara")
+            .build();
+    private final Flight flight = Flight.builder()
+            .id(UUID.randomUUID())
+            .departure(istanbul)
+            .arrival(ankara)
+            .departureTime(LocalDate.now().plusDays(10).atTime(21, 11, 10))
+            .amount(199.99)
+            .currency("TL")
+            .build();
+
+    @BeforeEach
+    void init(@Mock FlightPort flightPort, @Mock PortPort portPort) {
+        this.flightPort = flightPort;
+        this.portPort = portPort;
+        handler = new OneWayFlightStreamQueryHandler(flightPort, portPort);
+        when(portPort.findByName("istanbul")).thenReturn(istanbul);
+        when(portPort.findByName("ankara")).thenReturn(ankara);
+        when(flightPort.getAvailableFlights(any(RouteDayQuery.class))).thenReturn(List.of(flight));
+        when(flightPort.streamAvailableFlights(any(RouteDayQuery.class))).thenCallRealMethod();
+    }
+
+    @Test
+    void givenFlightStream_whenQueryPassed() {
+        OneWayFlightQuery query = query("istanbul", "ankara", LocalDate.now().plusDays(10));
+
+        OneWayFlightStreamResult result = handler.handle(query);
+
+        verify(flightPort).streamAvailableFlights(RouteDayQuery.of(istanbul, ankara, query));
+        assertEquals(result.getDeparture(), istanbul);
+        assertEquals(result.getArrival(), ankara);
+        assertEquals(query.getDepartureDate(), result.getDepartureDate());
+        assertEquals(List.of(flight), result.getFlights().toList());
+    }
+
+    @Test
+    void throwsPastDateException_whenDepartureDatePast() {
+        OneWayFlightQuery query = query("istanbul", "ankara", LocalDate.now().minusDays(10));
+
+        assertThrows(PastDateException.class, () -> handler.handle(query));
+        verify(flightPort, never()).streamAvailableFlights(any(RouteDayQuery.class));
+    }
+
+    @Test
+    void throwsIdenticalDepartureAndArrivalException_whenDepartureAndArrivalSame() {
+        OneWayFlightQuery query = query("ankara", "ankara", LocalDate.now().plusDays(10));
+
+        assertThrows(IdenticalDepartureAndArrivalException.class, () -> handler.handle(query));
+        verify(portPort, never()).findByName(any());
+    }
+
+    @Test
+    void throwsIncorrectPortNameException_whenArrivalPortNameDoesNotPointAny() {
+        OneWayFlightQuery query = query("istanbul", "does-not-exist", LocalDate.now().plusDays(10));
+
+        assertThrows(IncorrectPortNameException.class, () -> handler.handle(query));
+        verify(flightPort, never()).streamAvailableFlights(any(RouteDayQuery.class));
+    }
+
+    private static OneWayFlightQuery query(String departure, String arrival, LocalDate date) {
+        return OneWayFlightQuery.builder()
+                .departurePort(departure)
+                .arrivalPort(arrival)
+                .departureDate(date)
+                .build();
+    }
+}
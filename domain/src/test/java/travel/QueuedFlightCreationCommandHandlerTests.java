@@ -0,0 +1,104 @@
+package travel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import travel.command.FlightCreationCommand;
+import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.exception.IncorrectPortNameException;
+import travel.exception.PastDepartureTimeException;
+import travel.handler.CommandHandler;
+import travel.handler.QueuedFlightCreationCommandHandler;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.port.FlightQueuePort;
+import travel.port.PortPort;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class QueuedFlightCreationCommandHandlerTests {
+    private FlightQueuePort flightQueuePort;
+    private CommandHandler<CompletableFuture<Flight>, FlightCreationCommand> handler;
+    private final CompletableFuture<Flight> pending = new CompletableFuture<>();
+    private final Port istanbul = Port.builder()
+            .id(UUID.randomUUID())
+            .code(1)
+            .name("istanbul")
+            .build();
+    private final Port ankara = Port.builder()
+            .id(UUID.randomUUID())
+            .code(2)
+            .name("ankara")
+            .build();
+
+    @BeforeEach
+    void init(@Mock FlightQueuePort flightQueuePort, @Mock PortPort portPort) {
+        this.flightQueuePort = flightQueuePort;
+        this.handler = new QueuedFlightCreationCommandHandler(flightQueuePort, portPort);
+        when(flightQueuePort.enqueue(any(FlightCreationCommand.class))).thenReturn(pending);
+        when(portPort.findByName("istanbul")).thenReturn(istanbul);
+        when(portPort.findByName("ankara")).thenReturn(ankara);
+    }
+
+    @Test
+    void givenPendingFlight_whenCommandProper() {
+        var command = command("istanbul", "ankara", LocalDateTime.now().plusDays(10));
+
+        var result = handler.handle(command);
+
+        verify(flightQueuePort).enqueue(command);
+        assertSame(pending, result);
+        assertFalse(result.isDone());
+    }
+
+    @Test
+    void throwsPastTimeCommandException_whenDepartureTimeIsPast() {
+        var command = command("istanbul", "ankara", LocalDateTime.now().minusDays(10));
+
+        assertThrows(PastDepartureTimeException.class, () -> handler.handle(command));
+
+        verify(flightQueuePort, never()).enqueue(any());
+    }
+
+    @Test
+    void throwsIdenticalDepartureAndArrivalException_whenDepartureAndArrivalSame() {
+        var command = command("istanbul", "Istanbul", LocalDateTime.now().plusDays(10));
+
+        assertThrows(IdenticalDepartureAndArrivalException.class, () -> handler.handle(command));
+
+        verify(flightQueuePort, never()).enqueue(any());
+    }
+
+    @Test
+    void throwsIncorrectPortNameException_whenPortNameDoesNotPointAny() {
+        var departure = command("does-not-exist", "ankara", LocalDateTime.now().plusDays(10));
+        var arrival = command("istanbul", "does-not-exist", LocalDateTime.now().plusDays(10));
+
+        assertThrows(IncorrectPortNameException.class, () -> handler.handle(departure));
+        assertThrows(IncorrectPortNameException.class, () -> handler.handle(arrival));
+
+        verify(flightQueuePort, never()).enqueue(any());
+    }
+
+    private static FlightCreationCommand command(String departure, String arrival, LocalDateTime departureTime) {
+        return FlightCreationCommand.builder()
+                .departurePort(departure)
+                .arrivalPort(arrival)
+                .departureTime(departureTime)
+                .amount(189.90)
+                .currency("TL")
+                .build();
+    }
+}
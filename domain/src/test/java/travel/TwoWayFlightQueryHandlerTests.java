@@ -15,9 +15,10 @@ import travel.handler.QueryHandler;
 import travel.handler.TwoWayFlightQueryHandler;
 import travel.model.Flight;
 import travel.model.Port;
+import travel.model.RoundTripFlights;
 import travel.port.FlightPort;
 import travel.port.PortPort;
-import travel.query.OneWayFlightQuery;
+import travel.query.RouteDayQuery;
 import travel.query.TwoWayFlightQuery;
 import travel.result.TwoWayFlightResult;
 
@@ -70,19 +71,20 @@ public class TwoWayFlightQueryHandlerTests {
         this.flightPort = flightPort;
         this.portPort = portPort;
         handler = new TwoWayFlightQueryHandler(flightPort, portPort);
-        when(flightPort.getAvailableFlights(any(OneWayFlightQuery.class)))
+        when(flightPort.getAvailableFlights(any(RouteDayQuery.class)))
                 .thenAnswer(invocation -> {
-                    OneWayFlightQuery query = invocation.getArgument(0);
+                    RouteDayQuery query = invocation.getArgument(0);
 
                     departureFlights.forEach(flight -> flight.setDepartureTime(query.getDepartureDate().atTime(21, 11, 10)));
                     returnFlights.forEach(flight -> flight.setDepartureTime(query.getDepartureDate().atTime(21, 11, 10)));
 
-                    if (query.getDeparturePort().compareTo(departureFlight.getDeparture().getName()) == 0) {
+                    if (query.getDeparture().equals(departureFlight.getDeparture())) {
                         return departureFlights;
                     } else {
                         return returnFlights;
                     }
                 });
+        when(flightPort.getRoundTripFlights(any(RouteDayQuery.class), any(RouteDayQuery.class))).thenCallRealMethod();
         when(portPort.findByName("istanbul")).thenReturn(istanbul);
         when(portPort.findByName("ankara")).thenReturn(ankara);
     }
@@ -100,14 +102,14 @@ public class TwoWayFlightQueryHandlerTests {
 
         TwoWayFlightResult result = handler.handle(query);
 
-        verify(flightPort).getAvailableFlights(eq(OneWayFlightQuery.builder()
-                .departurePort(query.getDeparturePort())
-                .arrivalPort(query.getArrivalPort())
+        verify(flightPort).getAvailableFlights(eq(RouteDayQuery.builder()
+                .departure(istanbul)
+                .arrival(ankara)
                 .departureDate(query.getDepartureDate())
                 .build()));
-        verify(flightPort).getAvailableFlights(eq(OneWayFlightQuery.builder()
-                .departurePort(query.getArrivalPort())
-                .arrivalPort(query.getDeparturePort())
+        verify(flightPort).getAvailableFlights(eq(RouteDayQuery.builder()
+                .departure(ankara)
+                .arrival(istanbul)
                 .departureDate(query.getReturnDate())
                 .build()));
         verify(portPort).findByName(query.getDeparturePort());
@@ -122,6 +124,31 @@ public class TwoWayFlightQueryHandlerTests {
         assertArrayEquals(result.getReturnFlights().toArray(), returnFlights.toArray());
     }
 
+    @Test
+    void givenAllTwoWayFlights_whenAdapterFetchesBothLegsTogether() {
+        LocalDate requestedDepartureDate = LocalDate.now().plusDays(1);
+        LocalDate requestedReturnDate = LocalDate.now().plusDays(2);
+        TwoWayFlightQuery query = mock(TwoWayFlightQuery.class);
+
+        when(query.getDeparturePort()).thenReturn("istanbul");
+        when(query.getArrivalPort()).thenReturn("ankara");
+        when(query.getDepartureDate()).thenReturn(requestedDepartureDate);
+        when(query.getReturnDate()).thenReturn(requestedReturnDate);
+        doReturn(RoundTripFlights.builder()
+                .departureFlights(departureFlights)
+                .returnFlights(returnFlights)
+                .build()).when(flightPort).getRoundTripFlights(any(RouteDayQuery.class), any(RouteDayQuery.class));
+
+        TwoWayFlightResult result = handler.handle(query);
+
+        verify(flightPort).getRoundTripFlights(any(RouteDayQuery.class), any(RouteDayQuery.class));
+        verify(flightPort, never()).getAvailableFlights(any(RouteDayQuery.class));
+        assertEquals(result.getDepartureFlightCount(), departureFlights.size());
+        assertEquals(result.getReturnFlightCount(), returnFlights.size());
+        assertArrayEquals(result.getDepartureFlights().toArray(), departureFlights.toArray());
+        assertArrayEquals(result.getReturnFlights().toArray(), returnFlights.toArray());
+    }
+
     @Test
     void throwsPastTimeQueryException_whenDepartureDatePast() {
         LocalDate requestedDepartureDate = LocalDate.now().minusDays(1);
@@ -135,7 +162,7 @@ public class TwoWayFlightQueryHandlerTests {
 
         assertThrows(PastDateException.class, () -> handler.handle(query));
 
-        verify(flightPort, never()).getAvailableFlights(any(OneWayFlightQuery.class));
+        verify(flightPort, never()).getAvailableFlights(any(RouteDayQuery.class));
         verify(portPort, never()).findByName(query.getDeparturePort());
         verify(portPort, never()).findByName(query.getArrivalPort());
     }
@@ -153,7 +180,7 @@ public class TwoWayFlightQueryHandlerTests {
 
         assertThrows(PastDateException.class, () -> handler.handle(query));
 
-        verify(flightPort, never()).getAvailableFlights(any(OneWayFlightQuery.class));
+        verify(flightPort, never()).getAvailableFlights(any(RouteDayQuery.class));
         verify(portPort, never()).findByName(query.getDeparturePort());
         verify(portPort, never()).findByName(query.getArrivalPort());
     }
@@ -171,7 +198,7 @@ public class TwoWayFlightQueryHandlerTests {
 
         assertThrows(InvalidDateRangeException.class, () -> handler.handle(query));
 
-        verify(flightPort, never()).getAvailableFlights(any(OneWayFlightQuery.class));
+        verify(flightPort, never()).getAvailableFlights(any(RouteDayQuery.class));
         verify(portPort, never()).findByName(query.getDeparturePort());
         verify(portPort, never()).findByName(query.getArrivalPort());
     }
@@ -1,36 +1,106 @@
 package travel.infra;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import travel.command.BulkFlightCreationCommand;
 import travel.command.FlightCreationCommand;
+import travel.command.PortCreationCommand;
 import travel.handler.*;
+import travel.infra.adapter.UnsupportedConnectionAdapter;
+import travel.model.BulkFlightCreationReport;
 import travel.model.Flight;
+import travel.model.Port;
+import travel.port.ChangeFeedPort;
+import travel.port.ConnectionPort;
 import travel.port.FlightPort;
+import travel.port.FlightQueuePort;
 import travel.port.PortPort;
+import travel.query.BatchFlightQuery;
+import travel.query.ChangeFeedQuery;
+import travel.query.ConnectingFlightQuery;
+import travel.query.FlexibleDateFlightQuery;
+import travel.query.FlightSummaryQuery;
 import travel.query.OneWayFlightQuery;
 import travel.query.TwoWayFlightQuery;
+import travel.result.BatchFlightResult;
+import travel.result.ChangeFeedResult;
+import travel.result.ConnectingFlightResult;
+import travel.result.FlexibleDateFlightResult;
+import travel.result.FlightSummaryResult;
 import travel.result.OneWayFlightResult;
+import travel.result.OneWayFlightStreamResult;
 import travel.result.TwoWayFlightResult;
 
+import java.util.concurrent.CompletableFuture;
+
 @Configuration
 @RequiredArgsConstructor
 public class DomainConfiguration {
     private final FlightPort flightPort;
     private final PortPort portPort;
+    private final FlightQueuePort flightQueuePort;
+    private final ChangeFeedPort changeFeedPort;
+    private final ObjectProvider<ConnectionPort> connectionPort;
 
     @Bean
     public QueryHandler<OneWayFlightResult, OneWayFlightQuery> oneWayFlightQueryHandler() {
         return new OneWayFlightQueryHandler(flightPort, portPort);
     }
 
+    @Bean
+    public QueryHandler<OneWayFlightStreamResult, OneWayFlightQuery> oneWayFlightStreamQueryHandler() {
+        return new OneWayFlightStreamQueryHandler(flightPort, portPort);
+    }
+
+    @Bean
+    public QueryHandler<BatchFlightResult, BatchFlightQuery> batchFlightQueryHandler() {
+        return new BatchFlightQueryHandler(flightPort, portPort);
+    }
+
     @Bean
     public QueryHandler<TwoWayFlightResult, TwoWayFlightQuery> twoWayFlightQueryHandler() {
         return new TwoWayFlightQueryHandler(flightPort, portPort);
     }
 
+    @Bean
+    public QueryHandler<FlexibleDateFlightResult, FlexibleDateFlightQuery> flexibleDateFlightQueryHandler() {
+        return new FlexibleDateFlightQueryHandler(flightPort, portPort);
+    }
+
+    @Bean
+    public QueryHandler<ConnectingFlightResult, ConnectingFlightQuery> connectingFlightQueryHandler() {
+        return new ConnectingFlightQueryHandler(connectionPort.getIfAvailable(UnsupportedConnectionAdapter::new), portPort);
+    }
+
+    @Bean
+    public QueryHandler<FlightSummaryResult, FlightSummaryQuery> flightSummaryQueryHandler() {
+        return new FlightSummaryQueryHandler(flightPort, portPort);
+    }
+
+    @Bean
+    public QueryHandler<ChangeFeedResult, ChangeFeedQuery> changeFeedQueryHandler() {
+        return new ChangeFeedQueryHandler(changeFeedPort);
+    }
+
     @Bean
     public CommandHandler<Flight, FlightCreationCommand> flightCreationCommandHandler() {
         return new FlightCreationCommandHandler(flightPort, portPort);
     }
+
+    @Bean
+    public CommandHandler<CompletableFuture<Flight>, FlightCreationCommand> queuedFlightCreationCommandHandler() {
+        return new QueuedFlightCreationCommandHandler(flightQueuePort, portPort);
+    }
+
+    @Bean
+    public CommandHandler<BulkFlightCreationReport, BulkFlightCreationCommand> bulkFlightCreationCommandHandler() {
+        return new BulkFlightCreationCommandHandler(flightPort, portPort);
+    }
+
+    @Bean
+    public CommandHandler<Port, PortCreationCommand> portCreationCommandHandler() {
+        return new PortCreationCommandHandler(portPort);
+    }
 }
@@ -0,0 +1,31 @@
+package travel.infra;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class WebConfiguration {
+    /**
+     * Lets clients ask for Smile, a binary encoding of the same document, with
+     * {@code Accept: application/x-jackson-smile}. Ids are written as 16 raw bytes, and
+     * property names and short strings such as port names are written once and
+     * back-referenced afterwards, so the payload stays small even though every flight
+     * repeats its ports. JSON stays the default.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false)
+                .factory(smileFactory())
+                .build());
+    }
+
+    public static SmileFactory smileFactory() {
+        return SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+    }
+}
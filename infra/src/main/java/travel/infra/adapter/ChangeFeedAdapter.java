@@ -0,0 +1,296 @@
+package travel.infra.adapter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import travel.model.ChangeEvent;
+import travel.model.ChangeType;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.port.ChangeFeedPort;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Change feed over the {@code change_event} outbox. Adapters record events in the
+ * transaction that creates the port or flight; once it commits, a publisher thread
+ * numbers the new rows and delivers them to subscribers. Publishers on different
+ * instances take turns through an advisory lock, so sequence numbers are handed out in
+ * commit order. The publisher is woken after every local commit and also polls, to pick
+ * up events committed by other instances.
+ * <p>
+ * Published events older than {@code retention} are deleted every {@code prune-interval},
+ * except the last one, which keeps {@link #getLastSequence()} from going back. Consumers
+ * that fall further behind than the retention miss the deleted events.
+ */
+@Service
+public class ChangeFeedAdapter implements ChangeFeedPort, SchedulingConfigurer {
+    private static final String INSERT_PORT_CREATED = "INSERT INTO change_event (type, port_id) VALUES ('PORT_CREATED', ?)";
+    private static final String INSERT_FLIGHT_CREATED = "INSERT INTO change_event (type, flight_id, departure_port_id, arrival_port_id, departure_time, amount, currency) VALUES ('FLIGHT_CREATED', ?, ?, ?, ?, ?, ?)";
+    private static final String LOCK_PUBLISHER = "SELECT pg_try_advisory_xact_lock(?)";
+    private static final String NUMBER_UNPUBLISHED = "UPDATE change_event AS E SET sequence = N.sequence FROM (SELECT id, nextval('change_event_sequence_seq') AS sequence FROM change_event WHERE sequence IS NULL ORDER BY id LIMIT ?) AS N WHERE E.id = N.id";
+    private static final String SELECT_CHANGES = "SELECT E.sequence, E.type, E.created_at, E.flight_id, E.departure_time, E.amount, E.currency, P.id, P.code, P.name, D.id, D.code, D.name, A.id, A.code, A.name FROM change_event AS E LEFT JOIN port AS P ON P.id = E.port_id LEFT JOIN port AS D ON D.id = E.departure_port_id LEFT JOIN port AS A ON A.id = E.arrival_port_id WHERE E.sequence > ? ORDER BY E.sequence LIMIT ?";
+    private static final String SELECT_LAST_SEQUENCE = "SELECT COALESCE(MAX(sequence), 0) FROM change_event";
+    private static final String DELETE_EXPIRED = "DELETE FROM change_event WHERE id IN (SELECT id FROM change_event WHERE sequence < (SELECT MAX(sequence) FROM change_event) AND created_at < LOCALTIMESTAMP - CAST(? AS INTERVAL) ORDER BY sequence LIMIT ?)";
+    private static final long PUBLISHER_LOCK_KEY = 0x46454544L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long pollIntervalNanos;
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration pruneInterval;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final Thread publisher = new Thread(this::run, "change-feed-publisher");
+    private volatile boolean running = true;
+
+    public ChangeFeedAdapter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${flight-search.change-feed.poll-interval:1s}") Duration pollInterval,
+                             @Value("${flight-search.change-feed.batch-size:500}") int batchSize,
+                             @Value("${flight-search.change-feed.retention:7d}") Duration retention,
+                             @Value("${flight-search.change-feed.prune-interval:1h}") Duration pruneInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.pruneInterval = pruneInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        publisher.setDaemon(true);
+        publisher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        publisher.interrupt();
+        publisher.join();
+    }
+
+    /**
+     * Records the port's creation in the caller's transaction.
+     */
+    public void recordPortCreated(Port port) {
+        jdbcTemplate.update(INSERT_PORT_CREATED, port.getId());
+        publishAfterCommit();
+    }
+
+    /**
+     * Records the flights' creation in the caller's transaction, in list order.
+     */
+    public void recordFlightsCreated(List<Flight> flights) {
+        jdbcTemplate.batchUpdate(INSERT_FLIGHT_CREATED, flights, batchSize, (statement, flight) -> {
+            statement.setObject(1, flight.getId());
+            statement.setObject(2, flight.getDeparture().getId());
+            statement.setObject(3, flight.getArrival().getId());
+            statement.setObject(4, flight.getDepartureTime());
+            statement.setDouble(5, flight.getAmount());
+            statement.setString(6, flight.getCurrency());
+        });
+        publishAfterCommit();
+    }
+
+    @Override
+    public List<ChangeEvent> getChangesAfter(long sequence, int limit) {
+        var ports = new HashMap<UUID, Port>();
+
+        return jdbcTemplate.query(SELECT_CHANGES, (resultSet, row) -> toModel(resultSet, ports), sequence, limit);
+    }
+
+    @Override
+    public long getLastSequence() {
+        return jdbcTemplate.queryForObject(SELECT_LAST_SEQUENCE, Long.class);
+    }
+
+    @Override
+    public AutoCloseable subscribe(long sequence, Consumer<ChangeEvent> listener) {
+        var subscription = new Subscription(listener, sequence);
+
+        subscriptions.add(subscription);
+        wakeUps.release();
+        return () -> subscriptions.remove(subscription);
+    }
+
+    /**
+     * Numbers the events committed so far and delivers every numbered event to the
+     * subscribers that have not seen it yet.
+     */
+    public void publish() {
+        boolean more;
+
+        do {
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> number()));
+        } while (more);
+
+        var pending = new ArrayList<>(subscriptions);
+
+        if (pending.isEmpty())
+            return;
+
+        var after = pending.stream().mapToLong(subscription -> subscription.sequence).min().getAsLong();
+        List<ChangeEvent> events;
+
+        do {
+            events = getChangesAfter(after, batchSize);
+
+            var batch = events;
+
+            pending.removeIf(subscription -> !subscription.deliver(batch));
+
+            if (!events.isEmpty())
+                after = events.get(events.size() - 1).getSequence();
+        } while (events.size() == batchSize && !pending.isEmpty());
+    }
+
+    /**
+     * Deletes the published events older than the retention, {@code batch-size} rows per
+     * statement so no single delete holds many row locks, and returns how many it deleted.
+     */
+    public int prune() {
+        int total = 0;
+        int deleted;
+
+        do {
+            deleted = jdbcTemplate.update(DELETE_EXPIRED, retention.toString(), batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        return total;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::prune, pruneInterval);
+    }
+
+    /**
+     * Returns whether a full batch was numbered, i.e. whether there may be more.
+     */
+    private boolean number() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_PUBLISHER, Boolean.class, PUBLISHER_LOCK_KEY)))
+            return false;
+
+        return jdbcTemplate.update(NUMBER_UNPUBLISHED, batchSize) == batchSize;
+    }
+
+    private void publishAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wakeUps.release();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUps.release();
+            }
+        });
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                wakeUps.tryAcquire(pollIntervalNanos, TimeUnit.NANOSECONDS);
+                wakeUps.drainPermits();
+                publish();
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // The database may be unavailable; everything unpublished is retried on the next round.
+            }
+        }
+    }
+
+    private static ChangeEvent toModel(ResultSet resultSet, Map<UUID, Port> ports) throws SQLException {
+        var type = ChangeType.valueOf(resultSet.getString(2));
+        var event = ChangeEvent.builder()
+                .sequence(resultSet.getLong(1))
+                .type(type)
+                .createdAt(resultSet.getObject(3, LocalDateTime.class));
+
+        if (type == ChangeType.PORT_CREATED)
+            return event.port(port(resultSet, 8, ports)).build();
+
+        return event.flight(Flight.builder()
+                        .id(resultSet.getObject(4, UUID.class))
+                        .departure(port(resultSet, 11, ports))
+                        .arrival(port(resultSet, 14, ports))
+                        .departureTime(resultSet.getObject(5, LocalDateTime.class))
+                        .amount(resultSet.getDouble(6))
+                        .currency(resultSet.getString(7))
+                        .build())
+                .build();
+    }
+
+    private static Port port(ResultSet resultSet, int column, Map<UUID, Port> ports) throws SQLException {
+        var id = resultSet.getObject(column, UUID.class);
+        var port = ports.get(id);
+
+        if (port == null) {
+            port = Port.builder()
+                    .id(id)
+                    .code(resultSet.getInt(column + 1))
+                    .name(resultSet.getString(column + 2))
+                    .build();
+            ports.put(id, port);
+        }
+
+        return port;
+    }
+
+    private static final class Subscription {
+        private final Consumer<ChangeEvent> listener;
+        private volatile long sequence;
+
+        private Subscription(Consumer<ChangeEvent> listener, long sequence) {
+            this.listener = listener;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Stops at the first event the listener fails on and returns false; that event is
+         * delivered again on the next round.
+         */
+        private boolean deliver(List<ChangeEvent> events) {
+            for (var event : events) {
+                if (event.getSequence() <= sequence)
+                    continue;
+
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    return false;
+                }
+
+                sequence = event.getSequence();
+            }
+
+            return true;
+        }
+    }
+}
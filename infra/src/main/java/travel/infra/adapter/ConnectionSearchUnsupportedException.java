@@ -0,0 +1,11 @@
+package travel.infra.adapter;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_IMPLEMENTED)
+public class ConnectionSearchUnsupportedException extends RuntimeException {
+    public ConnectionSearchUnsupportedException(String message) {
+        super(message);
+    }
+}
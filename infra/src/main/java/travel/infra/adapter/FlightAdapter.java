@@ -1,85 +1,327 @@
 package travel.infra.adapter;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import travel.command.FlightCreationCommand;
+import travel.exception.FlightRejectedException;
+import travel.infra.datasource.DataSourceRoute;
 import travel.infra.entity.FlightEntity;
+import travel.infra.entity.RouteDaySummaryEntity;
+import travel.infra.entity.TimeOrderedIdGenerator;
+import travel.infra.repository.FlightJdbcRepository;
 import travel.infra.repository.FlightRepository;
 import travel.infra.repository.PortRepository;
+import travel.infra.repository.RouteDaySummaryRepository;
+import travel.infra.timetable.RouteDay;
+import travel.model.ChangeType;
 import travel.model.Flight;
 import travel.model.Port;
+import travel.model.RoundTripFlights;
+import travel.model.RouteDaySummary;
 import travel.port.FlightPort;
-import travel.query.OneWayFlightQuery;
+import travel.query.FlightPageToken;
+import travel.query.FlightSort;
+import travel.query.RouteDayQuery;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class FlightAdapter implements FlightPort {
+
     private final FlightRepository flightRepository;
     private final PortRepository portRepository;
+    private final RouteDaySummaryRepository routeDaySummaryRepository;
+    private final PortRegistry portRegistry;
+    private final FlightSearchCache searchCache;
+    private final FlightJdbcRepository flightJdbcRepository;
+    private final ChangeFeedAdapter changeFeed;
+
+    /**
+     * Invalidates route-days once flights created on them are committed, including the
+     * ones created through other instances, so the cache TTL only bounds staleness for
+     * flights written around the application.
+     */
+    @PostConstruct
+    public void followChanges() {
+        changeFeed.subscribe(changeFeed.getLastSequence(), event -> {
+            if (event.getType() == ChangeType.FLIGHT_CREATED)
+                searchCache.invalidate(RouteDay.of(
+                        event.getFlight().getDeparture(),
+                        event.getFlight().getArrival(),
+                        event.getFlight().getDepartureTime().toLocalDate()
+                ));
+        });
+    }
+
+    /**
+     * Not transactional, so cache hits never check out a connection; the repository call
+     * made on a miss runs in its own read-only transaction. Misses are read from the
+     * primary, which the change feed follows: a route-day invalidated by a flight's
+     * event can not be refilled from a replica that has not replayed the flight yet.
+     */
+    @Override
+    public List<Flight> getAvailableFlights(RouteDayQuery query) {
+        var sort = FlightSort.orDefault(query.getSort());
+        var departure = query.getDeparture();
+        var arrival = query.getArrival();
+
+        if (isWholeRouteDay(query))
+            return searchCache.get(
+                    RouteDay.of(departure, arrival, query.getDepartureDate()),
+                    routeDay -> findAllOnPrimary(departure, arrival, routeDay.getDay())
+            );
+
+        var start = LocalDateTime.of(query.getDepartureDate(), LocalTime.MIDNIGHT);
+        var end = query.getDepartureDate().atTime(LocalTime.MAX);
+        var page = query.getLimit() == 0 ? Pageable.unpaged() : PageRequest.ofSize(query.getLimit());
+        var after = FlightPageToken.decode(query.getPageToken(), sort);
+        var flightRows = switch (sort) {
+            case DEPARTURE_TIME -> after == null
+                    ? flightRepository.findPageByRouteOrderByDepartureTime(departure.getId(), arrival.getId(), start, end, page)
+                    : flightRepository.findPageByRouteAfterDepartureTime(departure.getId(), arrival.getId(), start, end,
+                            after.getDepartureTime(), after.getId(), page);
+            case PRICE -> after == null
+                    ? flightRepository.findPageByRouteOrderByAmount(departure.getId(), arrival.getId(), start, end, page)
+                    : flightRepository.findPageByRouteAfterAmount(departure.getId(), arrival.getId(), start, end,
+                            after.getAmount(), after.getId(), page);
+        };
+
+        return flightRows.stream()
+                .map(flightRow -> flightRow.toModel(departure, arrival))
+                .toList();
+    }
 
     @Override
-    public List<Flight> getAvailableFlights(OneWayFlightQuery query) {
-        return flightRepository.findAllByOneWayQuery(
-                        query.getDeparturePort(),
-                        query.getArrivalPort(),
+    @Transactional(readOnly = true)
+    public List<Flight> getAvailableFlightsBetween(Port departure, Port arrival, LocalDate from, LocalDate to) {
+        return findAllByRoute(departure, arrival, from, to);
+    }
+
+    private List<Flight> findAllOnPrimary(Port departure, Port arrival, LocalDate day) {
+        var previous = DataSourceRoute.PRIMARY.enter();
+
+        try {
+            return findAllByRoute(departure, arrival, day, day);
+        } finally {
+            DataSourceRoute.restore(previous);
+        }
+    }
+
+    private List<Flight> findAllByRoute(Port departure, Port arrival, LocalDate from, LocalDate to) {
+        return flightRepository.findAllByRoute(
+                        departure.getId(),
+                        arrival.getId(),
+                        LocalDateTime.of(from, LocalTime.MIDNIGHT),
+                        to.atTime(LocalTime.MAX)
+                )
+                .stream()
+                .map(flightRow -> flightRow.toModel(departure, arrival))
+                .toList();
+    }
+
+    /**
+     * Serves route-days from the search cache where possible and reads all the others in
+     * one statement that joins the requested (route, day) tuples against the flight
+     * index. Every query gets its whole route-day ordered by departure time; sort order,
+     * page tokens and limits are left to the handler. Results read here are not put
+     * into the cache, since a concurrent write could already have invalidated them. Not
+     * transactional, like {@link #getAvailableFlights(RouteDayQuery)}.
+     */
+    @Override
+    public List<List<Flight>> getAvailableFlightsOfAll(List<RouteDayQuery> queries) {
+        var routeDays = queries.stream()
+                .map(query -> RouteDay.of(query.getDeparture(), query.getArrival(), query.getDepartureDate()))
+                .toList();
+        var cached = searchCache.getAllPresent(routeDays);
+        var missing = routeDays.stream()
+                .filter(routeDay -> !cached.containsKey(routeDay))
+                .distinct()
+                .toList();
+        var loaded = missing.isEmpty() ? Map.<RouteDay, List<Flight>>of() : findAllByRouteDays(missing);
+
+        return routeDays.stream()
+                .map(routeDay -> cached.getOrDefault(routeDay, loaded.getOrDefault(routeDay, List.of())))
+                .toList();
+    }
+
+    private Map<RouteDay, List<Flight>> findAllByRouteDays(List<RouteDay> routeDays) {
+        var ports = new HashMap<UUID, Port>();
+        var departureIds = new ArrayList<UUID>(routeDays.size());
+        var arrivalIds = new ArrayList<UUID>(routeDays.size());
+        var days = new ArrayList<LocalDate>(routeDays.size());
+
+        for (var routeDay : routeDays) {
+            var departure = portRegistry.findByCode(routeDay.getDeparture());
+            var arrival = portRegistry.findByCode(routeDay.getArrival());
+
+            ports.put(departure.getId(), departure);
+            ports.put(arrival.getId(), arrival);
+            departureIds.add(departure.getId());
+            arrivalIds.add(arrival.getId());
+            days.add(routeDay.getDay());
+        }
+
+        var flights = new HashMap<RouteDay, List<Flight>>();
+
+        for (var row : flightJdbcRepository.findAllByRouteDays(departureIds, arrivalIds, days)) {
+            var flight = row.toModel(ports.get(row.getDepartureId()), ports.get(row.getArrivalId()));
+
+            flights.computeIfAbsent(
+                    RouteDay.of(flight.getDeparture(), flight.getArrival(), flight.getDepartureTime().toLocalDate()),
+                    routeDay -> new ArrayList<>()
+            ).add(flight);
+        }
+
+        return flights;
+    }
+
+    /**
+     * Reads the route-day through a server-side cursor. Rows are projections, so the
+     * persistence context does not grow with the result. Must be called within a
+     * transaction that stays open until the stream is closed.
+     */
+    @Override
+    public Stream<Flight> streamAvailableFlights(RouteDayQuery query) {
+        var departure = query.getDeparture();
+        var arrival = query.getArrival();
+
+        return flightRepository.streamAllByRoute(
+                        departure.getId(),
+                        arrival.getId(),
                         LocalDateTime.of(query.getDepartureDate(), LocalTime.MIDNIGHT),
                         query.getDepartureDate().atTime(LocalTime.MAX)
                 )
+                .map(flightRow -> flightRow.toModel(departure, arrival));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RoundTripFlights getRoundTripFlights(RouteDayQuery departureQuery, RouteDayQuery returnQuery) {
+        if (!isWholeRouteDay(departureQuery) || !isWholeRouteDay(returnQuery))
+            return FlightPort.super.getRoundTripFlights(departureQuery, returnQuery);
+
+        var departure = departureQuery.getDeparture();
+        var arrival = departureQuery.getArrival();
+        var flights = flightRepository.findAllByRoundTrip(
+                        departure.getId(),
+                        arrival.getId(),
+                        LocalDateTime.of(departureQuery.getDepartureDate(), LocalTime.MIDNIGHT),
+                        departureQuery.getDepartureDate().atTime(LocalTime.MAX),
+                        LocalDateTime.of(returnQuery.getDepartureDate(), LocalTime.MIDNIGHT),
+                        returnQuery.getDepartureDate().atTime(LocalTime.MAX)
+                )
                 .stream()
-                .map(flightEntity -> Flight.builder()
-                        .id(flightEntity.getId())
-                        .departure(
-                                Port.builder()
-                                        .id(flightEntity.getDeparture().getId())
-                                        .name(flightEntity.getDeparture().getName())
-                                        .build()
-                        )
-                        .arrival(
-                                Port.builder()
-                                        .id(flightEntity.getArrival().getId())
-                                        .name(flightEntity.getArrival().getName())
-                                        .build()
-                        )
-                        .departureTime(flightEntity.getDepartureTime())
-                        .amount(flightEntity.getAmount())
-                        .currency(flightEntity.getCurrency())
-                        .build())
+                .map(flightRow -> flightRow.getDepartureId().equals(departure.getId())
+                        ? flightRow.toModel(departure, arrival)
+                        : flightRow.toModel(arrival, departure))
+                .collect(Collectors.partitioningBy(flight -> flight.getDeparture() == departure));
+
+        return RoundTripFlights.builder()
+                .departureFlights(flights.get(true))
+                .returnFlights(flights.get(false))
+                .build();
+    }
+
+    /**
+     * Whether the query asks for its whole route-day in departure time order, which is
+     * what the cache holds and the round trip statement returns.
+     */
+    private static boolean isWholeRouteDay(RouteDayQuery query) {
+        return FlightSort.orDefault(query.getSort()) == FlightSort.DEPARTURE_TIME && query.getLimit() == 0
+                && query.getPageToken() == null;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RouteDaySummary> getRouteDaySummaries(Port departure, Port arrival, LocalDate from, LocalDate to) {
+        return routeDaySummaryRepository.findAllByRoute(departure.getId(), arrival.getId(), from, to)
+                .stream()
+                .map(RouteDaySummaryEntity::toModel)
                 .toList();
     }
 
     @Override
+    @Transactional
     public Flight createFlight(FlightCreationCommand command) {
-        var departure = portRepository.findByName(command.getDeparturePort());
-        var arrival = portRepository.findByName(command.getArrivalPort());
+        var departure = portRegistry.find(command.getDeparturePort());
+        var arrival = portRegistry.find(command.getArrivalPort());
         var flightEntity = new FlightEntity();
 
-        flightEntity.setDeparture(departure);
-        flightEntity.setArrival(arrival);
+        flightEntity.setDeparture(portRepository.getReferenceById(departure.getId()));
+        flightEntity.setArrival(portRepository.getReferenceById(arrival.getId()));
         flightEntity.setDepartureTime(command.getDepartureTime());
         flightEntity.setAmount(command.getAmount());
         flightEntity.setCurrency(command.getCurrency());
         flightEntity = flightRepository.save(flightEntity);
-        return Flight.builder()
-                .id(flightEntity.getId())
-                .departure(
-                        Port.builder()
-                                .id(flightEntity.getDeparture().getId())
-                                .name(flightEntity.getDeparture().getName())
-                                .build()
-                )
-                .arrival(
-                        Port.builder()
-                                .id(flightEntity.getArrival().getId())
-                                .name(flightEntity.getArrival().getName())
-                                .build()
-                )
-                .departureTime(flightEntity.getDepartureTime())
-                .amount(flightEntity.getAmount())
-                .currency(flightEntity.getCurrency())
-                .build();
+
+        var flight = flightEntity.toModel(departure, arrival);
+
+        flightJdbcRepository.addToRouteDaySummaries(List.of(flight));
+        changeFeed.recordFlightsCreated(List.of(flight));
+        searchCache.invalidate(RouteDay.of(departure, arrival, command.getDepartureTime().toLocalDate()));
+        return flight;
+    }
+
+    /**
+     * Inserts the flights through JDBC batches, bypassing the persistence context. Port
+     * names are resolved through the registry, so each distinct port is read at most once.
+     * A row the database rejects fails the batch with a {@link FlightRejectedException}.
+     */
+    @Override
+    @Transactional
+    public List<Flight> createFlights(List<FlightCreationCommand> commands) {
+        var flights = commands.stream()
+                .map(command -> Flight.builder()
+                        .id(TimeOrderedIdGenerator.next())
+                        .departure(portRegistry.find(command.getDeparturePort()))
+                        .arrival(portRegistry.find(command.getArrivalPort()))
+                        .departureTime(command.getDepartureTime())
+                        .amount(command.getAmount())
+                        .currency(command.getCurrency())
+                        .build())
+                .toList();
+
+        try {
+            flightJdbcRepository.insertAll(flights);
+        } catch (DataIntegrityViolationException e) {
+            throw new FlightRejectedException("The flight violates a constraint of the flight store.");
+        }
+
+        flightJdbcRepository.addToRouteDaySummaries(flights);
+        changeFeed.recordFlightsCreated(flights);
+        searchCache.invalidateAll(flights.stream()
+                .map(flight -> RouteDay.of(flight.getDeparture(), flight.getArrival(), flight.getDepartureTime().toLocalDate()))
+                .collect(Collectors.toSet()));
+        return flights;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Flight> getUpcomingFlights(LocalDateTime from) {
+        return flightRepository.findAllByDepartureTimeGreaterThanEqual(from)
+                .stream()
+                .map(this::toModel)
+                .toList();
+    }
+
+    private Flight toModel(FlightEntity flightEntity) {
+        return flightEntity.toModel(
+                portRegistry.canonical(flightEntity.getDeparture()),
+                portRegistry.canonical(flightEntity.getArrival())
+        );
     }
 }
@@ -0,0 +1,11 @@
+package travel.infra.adapter;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class FlightQueueFullException extends RuntimeException {
+    public FlightQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,92 @@
+package travel.infra.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import travel.infra.timetable.RouteDay;
+import travel.model.Flight;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of full route-day search results. An entry is dropped when a flight is
+ * created on its route-day; the TTL only bounds how long rows written behind the
+ * application's back stay invisible. A maximum size of 0 disables the cache.
+ */
+@Component
+public class FlightSearchCache implements MeterBinder {
+    private final Cache<RouteDay, List<Flight>> flights;
+
+    public FlightSearchCache(@Value("${flight-search.search-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${flight-search.search-cache.ttl:5m}") Duration ttl) {
+        this.flights = maximumSize == 0 ? null : Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public List<Flight> get(RouteDay routeDay, Function<RouteDay, List<Flight>> loader) {
+        return flights == null ? loader.apply(routeDay) : flights.get(routeDay, loader);
+    }
+
+    /**
+     * Returns the cached entries among the given route-days without loading the others.
+     */
+    public Map<RouteDay, List<Flight>> getAllPresent(Collection<RouteDay> routeDays) {
+        return flights == null ? Map.of() : flights.getAllPresent(routeDays);
+    }
+
+    public void invalidate(RouteDay routeDay) {
+        invalidateAll(Set.of(routeDay));
+    }
+
+    /**
+     * Drops the entries now and, when called within a transaction, once more after it
+     * commits, so a search that ran between the two cannot keep the uncommitted state.
+     */
+    public void invalidateAll(Collection<RouteDay> routeDays) {
+        if (flights == null)
+            return;
+
+        flights.invalidateAll(routeDays);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    flights.invalidateAll(routeDays);
+                }
+            });
+    }
+
+    /**
+     * Publishes hit ratio, evictions and load time under the standard {@code cache.*}
+     * meters, tagged with {@code cache=route-day-search}.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (flights != null)
+            CaffeineCacheMetrics.monitor(registry, flights, "route-day-search");
+    }
+
+    public CacheStats getStats() {
+        return flights == null ? CacheStats.empty() : flights.stats();
+    }
+
+    public long getSize() {
+        return flights == null ? 0 : flights.estimatedSize();
+    }
+}
@@ -0,0 +1,165 @@
+package travel.infra.adapter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import travel.command.FlightCreationCommand;
+import travel.exception.DomainException;
+import travel.model.Flight;
+import travel.port.FlightPort;
+import travel.port.FlightQueuePort;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Group commit for flight creation. Callers put flights into a bounded queue and get a
+ * future back; a single writer thread takes whatever has queued up since its last
+ * write, up to {@code max-group-size} flights, and creates them through
+ * {@link FlightPort#createFlights(List)} in one transaction. Under load, one commit
+ * covers many callers; when idle, a flight is written as soon as it arrives.
+ * <p>
+ * A full queue pushes back: {@link #enqueue(FlightCreationCommand)} waits up to
+ * {@code offer-timeout} for room and then fails with {@link FlightQueueFullException}.
+ * If a group is rejected for its data (a constraint violation or a
+ * {@link DomainException}), its flights are retried one by one, so a single bad flight
+ * only fails its own future. Any other failure, e.g. the database being unreachable or a
+ * bug, fails the whole group at once rather than multiplying the load with one retry
+ * per flight.
+ */
+@Component
+public class FlightWriteBehindQueue implements FlightQueuePort, MeterBinder {
+    private final FlightPort flightPort;
+    private final BlockingQueue<PendingFlight> queue;
+    private final int maxGroupSize;
+    private final long offerTimeoutNanos;
+    private final LongAdder groups = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final Thread writer = new Thread(this::drain, "flight-write-behind");
+    private volatile boolean running = true;
+
+    public FlightWriteBehindQueue(FlightPort flightPort,
+                                  @Value("${flight-search.write-behind.capacity:10000}") int capacity,
+                                  @Value("${flight-search.write-behind.max-group-size:1000}") int maxGroupSize,
+                                  @Value("${flight-search.write-behind.offer-timeout:100ms}") Duration offerTimeout) {
+        this.flightPort = flightPort;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxGroupSize = maxGroupSize;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops taking flights and waits for the writer to commit the ones already queued.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join();
+    }
+
+    @Override
+    public CompletableFuture<Flight> enqueue(FlightCreationCommand command) {
+        var pending = new PendingFlight(command, new CompletableFuture<>());
+
+        try {
+            if (!running || !queue.offer(pending, offerTimeoutNanos, TimeUnit.NANOSECONDS))
+                throw new FlightQueueFullException("The flight write queue is full.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlightQueueFullException("Interrupted while waiting for the flight write queue.");
+        }
+
+        return pending.future;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("flight.write.queue.size", queue, BlockingQueue::size)
+                .register(registry);
+        FunctionCounter.builder("flight.write.groups", groups, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("flight.write.flights", written, LongAdder::sum)
+                .register(registry);
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getGroupCount() {
+        return groups.sum();
+    }
+
+    private void drain() {
+        var group = new ArrayList<PendingFlight>(maxGroupSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(100, TimeUnit.MILLISECONDS);
+
+                if (first == null)
+                    continue;
+
+                group.add(first);
+                queue.drainTo(group, maxGroupSize - 1);
+                write(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(new ArrayList<>(queue), new FlightQueueFullException("The flight writer was interrupted."));
+                return;
+            } catch (Exception e) {
+                fail(group, e);
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingFlight> group) {
+        try {
+            var flights = flightPort.createFlights(group.stream().map(PendingFlight::command).toList());
+
+            groups.increment();
+            written.add(flights.size());
+
+            for (var index = 0; index < group.size(); index++)
+                group.get(index).future.complete(flights.get(index));
+        } catch (RuntimeException e) {
+            if (group.size() == 1 || !isRejectedData(e)) {
+                fail(group, e);
+                return;
+            }
+
+            group.forEach(pending -> write(List.of(pending)));
+        }
+    }
+
+    private static void fail(List<PendingFlight> group, Throwable e) {
+        group.forEach(pending -> pending.future.completeExceptionally(e));
+    }
+
+    private static boolean isRejectedData(RuntimeException e) {
+        return e instanceof DataIntegrityViolationException || e instanceof DomainException;
+    }
+
+    private record PendingFlight(FlightCreationCommand command, CompletableFuture<Flight> future) {
+    }
+}
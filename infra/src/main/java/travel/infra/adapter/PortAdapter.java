@@ -2,37 +2,70 @@ package travel.infra.adapter;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import travel.command.PortCreationCommand;
 import travel.infra.entity.PortEntity;
 import travel.infra.repository.PortRepository;
 import travel.model.Port;
 import travel.port.PortPort;
 
+import java.util.Collection;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class PortAdapter implements PortPort {
     private final PortRepository portRepository;
+    private final PortRegistry portRegistry;
+    private final ChangeFeedAdapter changeFeed;
 
     @Override
     public Port findByName(String name) {
-        var entity = portRepository.findByName(name);
+        return portRegistry.find(name);
+    }
 
-        return entity == null ? null : Port.builder()
-                .id(entity.getId())
-                .name(entity.getName())
-                .build();
+    @Override
+    public Map<String, Port> findAllByNames(Collection<String> names) {
+        return portRegistry.findAll(names);
     }
 
     @Override
+    @Transactional
     public Port createPort(PortCreationCommand command) {
-        var entity = portRepository.findByName(command.getName());
+        var existing = portRegistry.find(command.getName());
 
-        if (entity != null)
-            return entity.toModel();
+        if (existing != null)
+            return existing;
 
-        entity = new PortEntity();
+        var entity = new PortEntity();
 
         entity.setName(command.getName());
-        return portRepository.save(entity).toModel();
+
+        // Flushed right away, since the port code is only read back once the row is inserted.
+        var port = portRepository.saveAndFlush(entity).toModel();
+
+        changeFeed.recordPortCreated(port);
+        registerAfterCommit(port);
+        return port;
+    }
+
+    /**
+     * Registers the port once it is committed, so a rolled back port is never served
+     * from the registry.
+     */
+    private void registerAfterCommit(Port port) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            portRegistry.register(port);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                portRegistry.register(port);
+            }
+        });
     }
 }
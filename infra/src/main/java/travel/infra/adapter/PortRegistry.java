@@ -0,0 +1,202 @@
+package travel.infra.adapter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import travel.infra.entity.PortEntity;
+import travel.infra.repository.PortRepository;
+import travel.model.Port;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Case-insensitive cache of ports by name. Ports practically never change, so found
+ * ports are kept until {@link #register(Port)} or {@link #invalidate(String)} replaces
+ * them; unknown names are remembered only for a short negative TTL so that a newly
+ * created port becomes visible quickly even on instances that did not create it.
+ * <p>
+ * The registry also hands out the canonical {@link Port} instance for every id, so
+ * search results share one object per port instead of copying it for each flight. Port
+ * codes are dense, so known ports are also indexed by code in a plain array.
+ */
+@Component
+public class PortRegistry implements MeterBinder {
+    private final PortRepository portRepository;
+    private final long negativeTtlNanos;
+    private final Map<String, Entry> ports = new ConcurrentHashMap<>();
+    private final Map<UUID, Port> portsById = new ConcurrentHashMap<>();
+    private volatile Port[] portsByCode = new Port[64];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PortRegistry(PortRepository portRepository,
+                        @Value("${flight-search.port-registry.negative-ttl:5s}") Duration negativeTtl) {
+        this.portRepository = portRepository;
+        this.negativeTtlNanos = negativeTtl.toNanos();
+    }
+
+    public Port find(String name) {
+        var key = normalise(name);
+        var entry = ports.get(key);
+
+        if (entry != null && !entry.isExpired()) {
+            hits.increment();
+            return entry.port;
+        }
+
+        misses.increment();
+
+        var entity = portRepository.findFirstByNameIgnoreCase(name);
+        var port = entity == null ? null : canonical(entity);
+
+        if (port != null) {
+            ports.put(key, Entry.present(port));
+            return port;
+        }
+
+        return remember(key, Entry.absent(System.nanoTime() + negativeTtlNanos)).port;
+    }
+
+    /**
+     * Same as {@link #find(String)} for many names, reading every name the registry does
+     * not know yet in a single query. Returns the ports found, keyed by lower-cased name.
+     */
+    public Map<String, Port> findAll(Collection<String> names) {
+        var found = new HashMap<String, Port>();
+        var missing = new HashMap<String, String>();
+
+        for (var name : names) {
+            var key = normalise(name);
+            var entry = ports.get(key);
+
+            if (entry != null && !entry.isExpired()) {
+                hits.increment();
+
+                if (entry.port != null)
+                    found.put(key, entry.port);
+            } else if (missing.putIfAbsent(key, name.toUpperCase(Locale.ROOT)) == null) {
+                misses.increment();
+            }
+        }
+
+        if (missing.isEmpty())
+            return found;
+
+        for (var entity : portRepository.findAllByUpperCaseNameIn(missing.values())) {
+            var port = canonical(entity);
+            var key = normalise(port.getName());
+
+            ports.put(key, Entry.present(port));
+
+            if (missing.containsKey(key))
+                found.put(key, port);
+        }
+
+        var expiresAt = System.nanoTime() + negativeTtlNanos;
+
+        missing.keySet().stream()
+                .filter(key -> !found.containsKey(key))
+                .forEach(key -> {
+                    var port = remember(key, Entry.absent(expiresAt)).port;
+
+                    if (port != null)
+                        found.put(key, port);
+                });
+        return found;
+    }
+
+    /**
+     * Returns the port with the given code if the registry has seen it, without touching
+     * the database.
+     */
+    public Port findByCode(int code) {
+        var index = portsByCode;
+
+        return code >= 0 && code < index.length ? index[code] : null;
+    }
+
+    /**
+     * Returns the shared instance for the entity's port, creating it from the entity the
+     * first time the id is seen.
+     */
+    public Port canonical(PortEntity entity) {
+        return portsById.computeIfAbsent(entity.getId(), id -> indexByCode(entity.toModel()));
+    }
+
+    public void register(Port port) {
+        portsById.put(port.getId(), indexByCode(port));
+        ports.put(normalise(port.getName()), Entry.present(port));
+    }
+
+    public void invalidate(String name) {
+        ports.remove(normalise(name));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("flight.search.port.registry.lookups", this, PortRegistry::getHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("flight.search.port.registry.lookups", this, PortRegistry::getMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("flight.search.port.registry.size", portsById, Map::size)
+                .register(registry);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Stores a lookup miss unless a port was registered under the same name while the
+     * database was being read, in which case the registered port is kept and returned.
+     */
+    private Entry remember(String key, Entry absent) {
+        return ports.merge(key, absent, (current, miss) -> current.port != null ? current : miss);
+    }
+
+    private synchronized Port indexByCode(Port port) {
+        var index = portsByCode;
+
+        if (port.getCode() >= index.length)
+            index = Arrays.copyOf(index, Math.max(index.length * 2, port.getCode() + 1));
+
+        index[port.getCode()] = port;
+        portsByCode = index;
+        return port;
+    }
+
+    private static String normalise(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(Port port, long expiresAt) {
+        static Entry present(Port port) {
+            return new Entry(port, Long.MAX_VALUE);
+        }
+
+        static Entry absent(long expiresAt) {
+            return new Entry(null, expiresAt);
+        }
+
+        boolean isExpired() {
+            return port == null && System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package travel.infra.adapter;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import travel.command.FlightCreationCommand;
+import travel.infra.snapshot.TimetableSnapshot;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.port.ConnectionPort;
+import travel.port.FlightPort;
+import travel.query.RouteDayQuery;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Answers searches from a memory-mapped {@link TimetableSnapshot}, so an instance can
+ * serve right after startup without reading the flight table. The snapshot is
+ * read-only: flights can not be created through this port, and flights created
+ * elsewhere become visible once a new snapshot is written and mapped.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "flight-search.flight-port", havingValue = "snapshot")
+public class SnapshotFlightAdapter implements FlightPort, ConnectionPort {
+    private final Path path;
+    private volatile TimetableSnapshot snapshot;
+
+    public SnapshotFlightAdapter(@Value("${flight-search.snapshot.path:timetable.snapshot}") Path path) {
+        this.path = path;
+    }
+
+    @PostConstruct
+    public void load() {
+        try {
+            snapshot = TimetableSnapshot.open(path);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("The timetable snapshot " + path.toAbsolutePath() + " can not be mapped.", exception);
+        }
+    }
+
+    public TimetableSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public List<Flight> getAvailableFlights(RouteDayQuery query) {
+        return getAvailableFlightsBetween(query.getDeparture(), query.getArrival(), query.getDepartureDate(), query.getDepartureDate());
+    }
+
+    @Override
+    public List<Flight> getAvailableFlightsBetween(Port departure, Port arrival, LocalDate from, LocalDate to) {
+        return snapshot.find(departure, arrival, LocalDateTime.of(from, LocalTime.MIDNIGHT), to.atTime(LocalTime.MAX));
+    }
+
+    @Override
+    public List<Flight> getFlightsDepartingBetween(LocalDateTime from, LocalDateTime to) {
+        return snapshot.findDepartingBetween(from, to);
+    }
+
+    @Override
+    public Flight createFlight(FlightCreationCommand command) {
+        throw new SnapshotReadOnlyException("Flights can not be created while searches are served from a snapshot.");
+    }
+
+    @Override
+    public List<Flight> createFlights(List<FlightCreationCommand> commands) {
+        throw new SnapshotReadOnlyException("Flights can not be created while searches are served from a snapshot.");
+    }
+}
@@ -0,0 +1,11 @@
+package travel.infra.adapter;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.METHOD_NOT_ALLOWED)
+public class SnapshotReadOnlyException extends RuntimeException {
+    public SnapshotReadOnlyException(String message) {
+        super(message);
+    }
+}
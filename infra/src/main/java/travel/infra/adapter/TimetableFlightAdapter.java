@@ -0,0 +1,129 @@
+package travel.infra.adapter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+import travel.command.FlightCreationCommand;
+import travel.infra.timetable.FlightTimetable;
+import travel.model.ChangeEvent;
+import travel.model.ChangeType;
+import travel.model.Flight;
+import travel.port.ChangeFeedPort;
+import travel.port.ConnectionPort;
+import travel.port.FlightPort;
+import travel.query.RouteDayQuery;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Answers searches from an in-memory {@link FlightTimetable}. The JPA-backed
+ * {@link FlightAdapter} stays the source of truth: every write goes through it
+ * first and is then added to the timetable. Flights created on other instances arrive
+ * through the {@link ChangeFeedPort}; the feed also redelivers local writes, which the
+ * timetable skips by flight id. Searches arrive with their ports already resolved by the
+ * handlers, and the timetable is keyed on port codes. Its departure index doubles as the
+ * connection array that connection searches scan.
+ * <p>
+ * Searches can not reach past days, so flights that departed before today are evicted
+ * every {@code eviction-interval}.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "flight-search.flight-port", havingValue = "timetable")
+public class TimetableFlightAdapter implements FlightPort, ConnectionPort, SchedulingConfigurer {
+    private final FlightAdapter flightAdapter;
+    private final ChangeFeedPort changeFeed;
+    private final Duration evictionInterval;
+    private volatile FlightTimetable timetable = new FlightTimetable();
+    private AutoCloseable subscription;
+
+    public TimetableFlightAdapter(FlightAdapter flightAdapter,
+                                  ChangeFeedPort changeFeed,
+                                  @Value("${flight-search.timetable.eviction-interval:1h}") Duration evictionInterval) {
+        this.flightAdapter = flightAdapter;
+        this.changeFeed = changeFeed;
+        this.evictionInterval = evictionInterval;
+    }
+
+    /**
+     * Loads the upcoming flights into a new timetable, swaps it in and subscribes to the
+     * changes published since. Searches keep using the previous timetable until the new
+     * one is complete. The sequence is read before the flights, so a flight committed in
+     * between is delivered by the feed rather than missed.
+     */
+    @PostConstruct
+    public synchronized void load() {
+        var sequence = changeFeed.getLastSequence();
+        var loaded = new FlightTimetable();
+
+        loaded.addAll(flightAdapter.getUpcomingFlights(LocalDate.now().atStartOfDay()));
+        timetable = loaded;
+        unsubscribe();
+        subscription = changeFeed.subscribe(sequence, this::apply);
+    }
+
+    /**
+     * Drops the flights that departed before today.
+     */
+    public int evict() {
+        return timetable.evictDepartingBefore(LocalDate.now().atStartOfDay());
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::evict, evictionInterval);
+    }
+
+    @PreDestroy
+    public synchronized void unsubscribe() {
+        if (subscription == null)
+            return;
+
+        try {
+            subscription.close();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not unsubscribe from the change feed.", e);
+        } finally {
+            subscription = null;
+        }
+    }
+
+    @Override
+    public List<Flight> getAvailableFlights(RouteDayQuery query) {
+        return timetable.find(query.getDeparture(), query.getArrival(), query.getDepartureDate());
+    }
+
+    @Override
+    public List<Flight> getFlightsDepartingBetween(LocalDateTime from, LocalDateTime to) {
+        return timetable.findDepartingBetween(from, to);
+    }
+
+    @Override
+    public Flight createFlight(FlightCreationCommand command) {
+        var flight = flightAdapter.createFlight(command);
+
+        timetable.add(flight);
+        return flight;
+    }
+
+    @Override
+    public List<Flight> createFlights(List<FlightCreationCommand> commands) {
+        var flights = flightAdapter.createFlights(commands);
+
+        timetable.addAll(flights);
+        return flights;
+    }
+
+    private void apply(ChangeEvent event) {
+        if (event.getType() == ChangeType.FLIGHT_CREATED)
+            timetable.add(event.getFlight());
+    }
+}
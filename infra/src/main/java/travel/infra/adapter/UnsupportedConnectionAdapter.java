@@ -0,0 +1,19 @@
+package travel.infra.adapter;
+
+import travel.model.Flight;
+import travel.port.ConnectionPort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Stands in for the {@link ConnectionPort} when searches are answered by the database.
+ * A connection search needs every flight of the network in departure order, which the
+ * database can only provide by reading the whole range, so it is rejected instead.
+ */
+public class UnsupportedConnectionAdapter implements ConnectionPort {
+    @Override
+    public List<Flight> getFlightsDepartingBetween(LocalDateTime from, LocalDateTime to) {
+        throw new ConnectionSearchUnsupportedException("Connecting flights can only be searched while flight-port is timetable or snapshot.");
+    }
+}
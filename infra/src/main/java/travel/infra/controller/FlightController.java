@@ -1,43 +1,180 @@
 package travel.infra.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import travel.command.BulkFlightCreationCommand;
 import travel.command.FlightCreationCommand;
 import travel.handler.CommandHandler;
 import travel.handler.QueryHandler;
+import travel.infra.dto.ChangeFeedRequest;
+import travel.infra.dto.ConnectingFlightSearchRequest;
 import travel.infra.dto.CreateFlightRequest;
+import travel.infra.dto.FlexibleDateFlightSearchRequest;
+import travel.infra.dto.FlightSummarySearchRequest;
 import travel.infra.dto.OneWayFlightSearchRequest;
 import travel.infra.dto.TwoWayFlightRequest;
+import travel.model.BulkFlightCreationReport;
 import travel.model.Flight;
+import travel.query.BatchFlightQuery;
+import travel.query.ChangeFeedQuery;
+import travel.query.ConnectingFlightQuery;
+import travel.query.FlexibleDateFlightQuery;
+import travel.query.FlightSummaryQuery;
 import travel.query.OneWayFlightQuery;
 import travel.query.TwoWayFlightQuery;
+import travel.result.BatchFlightResult;
+import travel.result.ChangeFeedResult;
+import travel.result.ConnectingFlightResult;
+import travel.result.FlexibleDateFlightResult;
+import travel.result.FlightSummaryResult;
 import travel.result.OneWayFlightResult;
+import travel.result.OneWayFlightStreamResult;
 import travel.result.TwoWayFlightResult;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("flights/")
 public class FlightController {
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
     private final QueryHandler<OneWayFlightResult, OneWayFlightQuery> oneWayFlightQueryHandler;
+    private final QueryHandler<OneWayFlightStreamResult, OneWayFlightQuery> oneWayFlightStreamQueryHandler;
+    private final QueryHandler<BatchFlightResult, BatchFlightQuery> batchFlightQueryHandler;
     private final QueryHandler<TwoWayFlightResult, TwoWayFlightQuery> twoWayFlightQueryHandler;
+    private final QueryHandler<FlexibleDateFlightResult, FlexibleDateFlightQuery> flexibleDateFlightQueryHandler;
+    private final QueryHandler<ConnectingFlightResult, ConnectingFlightQuery> connectingFlightQueryHandler;
+    private final QueryHandler<FlightSummaryResult, FlightSummaryQuery> flightSummaryQueryHandler;
+    private final QueryHandler<ChangeFeedResult, ChangeFeedQuery> changeFeedQueryHandler;
     private final CommandHandler<Flight, FlightCreationCommand> flightCreationCommandHandler;
+    private final CommandHandler<CompletableFuture<Flight>, FlightCreationCommand> queuedFlightCreationCommandHandler;
+    private final CommandHandler<BulkFlightCreationReport, BulkFlightCreationCommand> bulkFlightCreationCommandHandler;
+    private final ObjectMapper objectMapper;
 
-    @PostMapping("one-way-search/")
+    @PostMapping(value = "one-way-search/", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ResponseStatus(HttpStatus.OK)
     public OneWayFlightResult findOneWayFlights(@RequestBody OneWayFlightSearchRequest request) {
         return oneWayFlightQueryHandler.handle(request.toQuery());
     }
 
-    @PostMapping("two-way-search/")
+    @PostMapping(value = "one-way-search/batch/", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    public BatchFlightResult findOneWayFlightsOfAll(@RequestBody List<OneWayFlightSearchRequest> requests) {
+        return batchFlightQueryHandler.handle(BatchFlightQuery.builder()
+                .queries(requests.stream().map(request -> request == null ? null : request.toQuery()).toList())
+                .build());
+    }
+
+    /**
+     * Writes the same document as {@link #findOneWayFlights} incrementally, straight from
+     * the database cursor, so memory per request does not depend on the number of flights.
+     * The flight count is written after the flights since it is only known at the end.
+     * Flights are always streamed in departure time order and unpaged, so sort, limit and
+     * page token are rejected rather than ignored.
+     */
+    @PostMapping(value = "one-way-search/stream/", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(readOnly = true)
+    public void streamOneWayFlights(@RequestBody OneWayFlightSearchRequest request, HttpServletResponse response) throws IOException {
+        if (request.getSort() != null || request.getLimit() != 0 || request.getPageToken() != null)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Streamed searches can not be sorted or paged.");
+
+        var result = oneWayFlightStreamQueryHandler.handle(request.toQuery());
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        try (var flights = result.getFlights();
+             var generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            var count = 0;
+
+            generator.writeStartObject();
+            generator.writeObjectField("departure", result.getDeparture());
+            generator.writeObjectField("arrival", result.getArrival());
+            generator.writeObjectField("departureDate", result.getDepartureDate());
+            generator.writeArrayFieldStart("flights");
+
+            for (var iterator = flights.iterator(); iterator.hasNext(); ) {
+                generator.writeObject(iterator.next());
+
+                if (++count % STREAM_FLUSH_INTERVAL == 0)
+                    generator.flush();
+            }
+
+            generator.writeEndArray();
+            generator.writeNumberField("flightCount", count);
+            generator.writeEndObject();
+        }
+    }
+
+    @PostMapping(value = "two-way-search/", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ResponseStatus(HttpStatus.OK)
     public TwoWayFlightResult findTwoWayFlights(@RequestBody TwoWayFlightRequest request) {
         return twoWayFlightQueryHandler.handle(request.toQuery());
     }
 
+    @PostMapping("flexible-search/")
+    @ResponseStatus(HttpStatus.OK)
+    public FlexibleDateFlightResult findFlexibleDateFlights(@RequestBody FlexibleDateFlightSearchRequest request) {
+        return flexibleDateFlightQueryHandler.handle(request.toQuery());
+    }
+
+    @PostMapping("connecting-search/")
+    @ResponseStatus(HttpStatus.OK)
+    public ConnectingFlightResult findConnectingFlights(@RequestBody ConnectingFlightSearchRequest request) {
+        return connectingFlightQueryHandler.handle(request.toQuery());
+    }
+
+    @PostMapping(value = "summary-search/", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    public FlightSummaryResult findFlightSummaries(@RequestBody FlightSummarySearchRequest request) {
+        return flightSummaryQueryHandler.handle(request.toQuery());
+    }
+
+    /**
+     * Pages through created ports and flights in publication order. Pass the returned
+     * last sequence as the next request's after sequence to resume.
+     */
+    @PostMapping(value = "changes/", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    public ChangeFeedResult findChanges(@RequestBody ChangeFeedRequest request) {
+        return changeFeedQueryHandler.handle(request.toQuery());
+    }
+
     @PutMapping()
     @ResponseStatus(HttpStatus.CREATED)
     public Flight createFlight(@RequestBody CreateFlightRequest request) {
         return flightCreationCommandHandler.handle(request.toCommand());
     }
+
+    /**
+     * Same as {@link #createFlight}, but the flight is written by the write-behind queue
+     * together with other queued flights. The response is sent once the flight is
+     * committed; 503 when the queue is full.
+     */
+    @PutMapping("queued/")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CompletableFuture<Flight> createFlightQueued(@RequestBody CreateFlightRequest request) {
+        return queuedFlightCreationCommandHandler.handle(request.toCommand());
+    }
+
+    @PutMapping("bulk/")
+    @ResponseStatus(HttpStatus.CREATED)
+    public BulkFlightCreationReport createFlights(@RequestBody List<CreateFlightRequest> requests) {
+        if (requests.contains(null))
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A bulk request can not contain null flights.");
+
+        return bulkFlightCreationCommandHandler.handle(BulkFlightCreationCommand.builder()
+                .flights(requests.stream().map(CreateFlightRequest::toCommand).toList())
+                .build());
+    }
 }
@@ -3,22 +3,20 @@ package travel.infra.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import travel.command.PortCreationCommand;
+import travel.handler.CommandHandler;
 import travel.infra.dto.CreatePortRequest;
-import travel.infra.entity.PortEntity;
-import travel.infra.repository.PortRepository;
+import travel.model.Port;
 
 @RestController
 @RequestMapping("ports/")
 @RequiredArgsConstructor
 public class PortController {
-    private final PortRepository portRepository;
+    private final CommandHandler<Port, PortCreationCommand> portCreationCommandHandler;
 
     @PutMapping
     @ResponseStatus(HttpStatus.CREATED)
     public void createPort(@RequestBody CreatePortRequest request) {
-        var entity = new PortEntity();
-
-        entity.setName(request.getName());
-        portRepository.saveAndFlush(entity);
+        portCreationCommandHandler.handle(request.toCommand());
     }
 }
@@ -0,0 +1,92 @@
+package travel.infra.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Active once at least one replica is configured under
+ * {@code flight-search.datasource.replicas}; without replicas the single
+ * {@code spring.datasource} is used as before.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@EnableScheduling
+@ConditionalOnProperty(name = "flight-search.datasource.replicas[0].url")
+public class DataSourceConfiguration {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource, ReplicaProperties properties) {
+        List<DataSource> replicas = properties.getReplicas().stream()
+                .map(replica -> (DataSource) replica(primaryDataSource, replica))
+                .toList();
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaProperties properties) {
+        return new ReadYourWritesFilter(properties.getReadYourWrites(), Clock.systemUTC());
+    }
+
+    @Bean
+    public DataSourceRoutingAspect dataSourceRoutingAspect(ReadYourWritesFilter readYourWritesFilter) {
+        return new DataSourceRoutingAspect(readYourWritesFilter);
+    }
+
+    @Bean
+    public ReplicaHealthCheck replicaHealthCheck(ReplicaRoutingDataSource replicaRoutingDataSource, ReplicaProperties properties) {
+        return new ReplicaHealthCheck(replicaRoutingDataSource, properties.getHealthCheckInterval());
+    }
+
+    private static HikariDataSource replica(HikariDataSource primary, ReplicaProperties.Replica replica) {
+        var dataSource = new HikariDataSource();
+
+        primary.copyStateTo(dataSource);
+        dataSource.setPoolName(null);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() == null ? primary.getUsername() : replica.getUsername());
+        dataSource.setPassword(replica.getPassword() == null ? primary.getPassword() : replica.getPassword());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @RequiredArgsConstructor
+    static class ReplicaHealthCheck implements SchedulingConfigurer {
+        private final ReplicaRoutingDataSource replicaRoutingDataSource;
+        private final Duration interval;
+
+        @Override
+        public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+            taskRegistrar.addFixedDelayTask(replicaRoutingDataSource::checkReplicas, interval);
+        }
+    }
+}
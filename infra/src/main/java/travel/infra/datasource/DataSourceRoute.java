@@ -0,0 +1,36 @@
+package travel.infra.datasource;
+
+/**
+ * Where the current thread's database work should go. Set around handler calls by
+ * {@link DataSourceRoutingAspect}, around requests of clients that just wrote by
+ * {@link ReadYourWritesFilter}, and around search cache refills; elsewhere read-only
+ * transactions go to a replica and everything else to the primary.
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA;
+
+    private static final ThreadLocal<DataSourceRoute> CURRENT = new ThreadLocal<>();
+
+    public static DataSourceRoute current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes this the current route and returns the one it replaces, to be passed to
+     * {@link #restore(DataSourceRoute)}.
+     */
+    public DataSourceRoute enter() {
+        var previous = CURRENT.get();
+
+        CURRENT.set(this);
+        return previous;
+    }
+
+    public static void restore(DataSourceRoute previous) {
+        if (previous == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(previous);
+    }
+}
@@ -0,0 +1,72 @@
+package travel.infra.datasource;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs query handlers against the replicas and command handlers against the primary,
+ * including the port lookups commands make while validating. Queries of a client that
+ * {@link ReadYourWritesFilter} keeps on the primary stay there. A command that succeeds
+ * within a web request starts its client's read-your-writes window; for queued commands
+ * that is once the returned future completes, before the response is sent. Ordered ahead
+ * of the other handler aspects, so the route is in place for everything they wrap.
+ */
+@Aspect
+@Order(DataSourceRoutingAspect.ORDER)
+@RequiredArgsConstructor
+public class DataSourceRoutingAspect {
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    private final ReadYourWritesFilter readYourWrites;
+
+    @Around("execution(* travel.handler.QueryHandler+.handle(..))")
+    public Object routeQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        var route = DataSourceRoute.current() == DataSourceRoute.PRIMARY ? DataSourceRoute.PRIMARY : DataSourceRoute.REPLICA;
+        var previous = route.enter();
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DataSourceRoute.restore(previous);
+        }
+    }
+
+    @Around("execution(* travel.handler.CommandHandler+.handle(..))")
+    public Object routeCommand(ProceedingJoinPoint joinPoint) throws Throwable {
+        var previous = DataSourceRoute.PRIMARY.enter();
+        var response = currentResponse();
+
+        try {
+            var result = joinPoint.proceed();
+
+            if (response == null)
+                return result;
+
+            if (result instanceof CompletableFuture<?> future)
+                return future.whenComplete((value, failure) -> {
+                    if (failure == null)
+                        readYourWrites.markWritten(response);
+                });
+
+            readYourWrites.markWritten(response);
+            return result;
+        } finally {
+            DataSourceRoute.restore(previous);
+        }
+    }
+
+    private static HttpServletResponse currentResponse() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getResponse()
+                : null;
+    }
+}
@@ -0,0 +1,85 @@
+package travel.infra.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Keeps a client's reads on the primary for {@code window} after one of its commands
+ * succeeded, so it sees its own writes while the replicas catch up; every other client
+ * keeps reading from the replicas. The time of the write travels in a cookie set on the
+ * command's response, so the window holds whichever instance the next request reaches.
+ * A window of 0 turns it off.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    static final String COOKIE = "flight-search-written-at";
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!writtenWithinWindow(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var previous = DataSourceRoute.PRIMARY.enter();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DataSourceRoute.restore(previous);
+        }
+    }
+
+    /**
+     * Starts the window of the client the response goes to.
+     */
+    public void markWritten(HttpServletResponse response) {
+        if (window.isZero())
+            return;
+
+        var cookie = new Cookie(COOKIE, Long.toString(clock.millis()));
+
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, window.plusMillis(999).toSeconds()));
+        response.addCookie(cookie);
+    }
+
+    /**
+     * Instances' clocks may differ a little, so a write time slightly ahead of this one
+     * still counts; one further ahead than the window is ignored.
+     */
+    private boolean writtenWithinWindow(HttpServletRequest request) {
+        if (window.isZero() || request.getCookies() == null)
+            return false;
+
+        for (var cookie : request.getCookies()) {
+            if (!COOKIE.equals(cookie.getName()))
+                continue;
+
+            try {
+                return Math.abs(clock.millis() - Long.parseLong(cookie.getValue())) < window.toMillis();
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package travel.infra.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties("flight-search.datasource")
+public class ReplicaProperties {
+    private List<Replica> replicas = new ArrayList<>();
+    /**
+     * How long after a command the client that sent it keeps reading from the primary, 0
+     * to read from replicas right away. Should exceed the usual replica lag.
+     */
+    private Duration readYourWrites = Duration.ofSeconds(5);
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
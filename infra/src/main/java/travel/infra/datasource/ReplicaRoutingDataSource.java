@@ -0,0 +1,116 @@
+package travel.infra.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends reads to the healthy replicas in turn and everything else to the primary.
+ * A replica that fails a health check or a connection attempt is taken out of rotation
+ * until a later health check succeeds; with no healthy replica left, reads fall back to
+ * the primary. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so that the
+ * route is decided when the first statement runs, after the transaction is set up.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<String> replicaKeys;
+    private final Map<String, DataSource> replicas;
+    private final Set<String> unhealthy = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        var targets = new HashMap<Object, Object>();
+
+        this.primary = primary;
+        this.replicas = new HashMap<>();
+        this.replicaKeys = new ArrayList<>();
+        targets.put(PRIMARY, primary);
+
+        for (int i = 0; i < replicas.size(); i++) {
+            var key = "replica-" + i;
+
+            this.replicas.put(key, replicas.get(i));
+            this.replicaKeys.add(key);
+            targets.put(key, replicas.get(i));
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        var route = DataSourceRoute.current();
+
+        if (route == null)
+            route = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    ? DataSourceRoute.REPLICA
+                    : DataSourceRoute.PRIMARY;
+
+        if (route == DataSourceRoute.PRIMARY)
+            return PRIMARY;
+
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        var key = (String) determineCurrentLookupKey();
+
+        if (PRIMARY.equals(key))
+            return primary.getConnection();
+
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            logger.warn("Replica " + key + " is unavailable, reading from the primary until it recovers.", e);
+            unhealthy.add(key);
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Probes every replica and puts the reachable ones back in rotation.
+     */
+    public void checkReplicas() {
+        for (String key : replicaKeys) {
+            try (var connection = replicas.get(key).getConnection()) {
+                if (connection.isValid(1))
+                    unhealthy.remove(key);
+                else
+                    unhealthy.add(key);
+            } catch (SQLException e) {
+                unhealthy.add(key);
+            }
+        }
+    }
+
+    public Set<String> getUnhealthyReplicas() {
+        return Set.copyOf(unhealthy);
+    }
+
+    private String nextHealthyReplica() {
+        for (int attempt = 0; attempt < replicaKeys.size(); attempt++) {
+            var key = replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+
+            if (!unhealthy.contains(key))
+                return key;
+        }
+
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,21 @@
+package travel.infra.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import travel.query.ChangeFeedQuery;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ChangeFeedRequest {
+    private long afterSequence;
+    private int limit;
+
+    public ChangeFeedQuery toQuery() {
+        return ChangeFeedQuery.builder()
+                .afterSequence(afterSequence)
+                .limit(limit)
+                .build();
+    }
+}
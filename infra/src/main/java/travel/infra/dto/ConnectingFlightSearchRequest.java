@@ -0,0 +1,39 @@
+package travel.infra.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import travel.query.ConnectingFlightQuery;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ConnectingFlightSearchRequest {
+    private String departure;
+    private String arrival;
+    private LocalDate departureDate;
+    private Integer maxConnections;
+    private Duration minConnectionTime;
+    private Duration maxTotalDuration;
+
+    public ConnectingFlightQuery toQuery() {
+        var builder = ConnectingFlightQuery.builder()
+                .departurePort(departure)
+                .arrivalPort(arrival)
+                .departureDate(departureDate);
+
+        if (maxConnections != null)
+            builder.maxConnections(maxConnections);
+
+        if (minConnectionTime != null)
+            builder.minConnectionTime(minConnectionTime);
+
+        if (maxTotalDuration != null)
+            builder.maxTotalDuration(maxTotalDuration);
+
+        return builder.build();
+    }
+}
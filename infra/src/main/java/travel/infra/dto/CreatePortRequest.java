@@ -3,10 +3,17 @@ package travel.infra.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import travel.command.PortCreationCommand;
 
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
 public class CreatePortRequest {
     private String name;
+
+    public PortCreationCommand toCommand() {
+        return PortCreationCommand.builder()
+                .name(name)
+                .build();
+    }
 }
@@ -0,0 +1,30 @@
+package travel.infra.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import travel.query.FlexibleDateFlightQuery;
+
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class FlexibleDateFlightSearchRequest {
+    private String departure;
+    private String arrival;
+    private LocalDate departureDate;
+    private Integer flexibilityDays;
+
+    public FlexibleDateFlightQuery toQuery() {
+        var builder = FlexibleDateFlightQuery.builder()
+                .departurePort(departure)
+                .arrivalPort(arrival)
+                .departureDate(departureDate);
+
+        if (flexibilityDays != null)
+            builder.flexibilityDays(flexibilityDays);
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,27 @@
+package travel.infra.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import travel.query.FlightSummaryQuery;
+
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class FlightSummarySearchRequest {
+    private String departure;
+    private String arrival;
+    private LocalDate firstDate;
+    private LocalDate lastDate;
+
+    public FlightSummaryQuery toQuery() {
+        return FlightSummaryQuery.builder()
+                .departurePort(departure)
+                .arrivalPort(arrival)
+                .firstDate(firstDate)
+                .lastDate(lastDate)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package travel.infra.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import travel.query.FlightSort;
 import travel.query.TwoWayFlightQuery;
 
 import java.time.LocalDate;
@@ -15,6 +16,10 @@ public class TwoWayFlightRequest {
     private String arrival;
     private LocalDate departureDate;
     private LocalDate returnDate;
+    private FlightSort sort;
+    private int limit;
+    private String departurePageToken;
+    private String returnPageToken;
 
     public TwoWayFlightQuery toQuery() {
         return TwoWayFlightQuery.builder()
@@ -22,6 +27,10 @@ public class TwoWayFlightRequest {
                 .arrivalPort(arrival)
                 .departureDate(departureDate)
                 .returnDate(returnDate)
+                .sort(sort)
+                .limit(limit)
+                .departurePageToken(departurePageToken)
+                .returnPageToken(returnPageToken)
                 .build();
     }
 }
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Future;
 import lombok.Data;
 import org.springframework.data.domain.Persistable;
+import travel.model.Flight;
+import travel.model.Port;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,7 +15,7 @@ import java.util.UUID;
 @Table(name = "flight")
 public class FlightEntity implements Persistable<UUID> {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @ManyToOne
@@ -38,4 +40,19 @@ public class FlightEntity implements Persistable<UUID> {
     public boolean isNew() {
         return id == null;
     }
+
+    public Flight toModel() {
+        return toModel(departure.toModel(), arrival.toModel());
+    }
+
+    public Flight toModel(Port departure, Port arrival) {
+        return Flight.builder()
+                .id(id)
+                .departure(departure)
+                .arrival(arrival)
+                .departureTime(departureTime)
+                .amount(amount)
+                .currency(currency)
+                .build();
+    }
 }
@@ -0,0 +1,34 @@
+package travel.infra.entity;
+
+import lombok.Value;
+import travel.model.Flight;
+import travel.model.Port;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a flight row. Search queries select it directly, so no
+ * entities are loaded, tracked or dirty-checked; the ports are only referenced by id
+ * and are filled in from the ports the caller already resolved.
+ */
+@Value
+public class FlightRow {
+    UUID id;
+    UUID departureId;
+    UUID arrivalId;
+    LocalDateTime departureTime;
+    double amount;
+    String currency;
+
+    public Flight toModel(Port departure, Port arrival) {
+        return Flight.builder()
+                .id(id)
+                .departure(departure)
+                .arrival(arrival)
+                .departureTime(departureTime)
+                .amount(amount)
+                .currency(currency)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package travel.infra.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Generated;
 import org.springframework.data.domain.Persistable;
 import travel.model.Port;
 
@@ -12,9 +13,13 @@ import java.util.UUID;
 @Table(name = "port")
 public class PortEntity implements Persistable<UUID> {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
+    @Generated
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int code;
+
     @Column(nullable = false)
     private String name;
 
@@ -26,6 +31,7 @@ public class PortEntity implements Persistable<UUID> {
     public Port toModel() {
         return Port.builder()
                 .id(id)
+                .code(code)
                 .name(name)
                 .build();
     }
@@ -0,0 +1,69 @@
+package travel.infra.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import travel.model.RouteDaySummary;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read side of the route_day_summary table. Rows are only written through the upsert in
+ * FlightJdbcRepository, never through the persistence context.
+ */
+@Data
+@Entity
+@Table(name = "route_day_summary")
+@IdClass(RouteDaySummaryEntity.Key.class)
+public class RouteDaySummaryEntity {
+    @Id
+    @Column(name = "departure_port_id")
+    private UUID departureId;
+
+    @Id
+    @Column(name = "arrival_port_id")
+    private UUID arrivalId;
+
+    @Id
+    private LocalDate departureDate;
+
+    @Id
+    private String currency;
+
+    @Column(nullable = false)
+    private int flightCount;
+
+    @Column(nullable = false)
+    private double minAmount;
+
+    @Column(nullable = false)
+    private double maxAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime earliestDepartureTime;
+
+    public RouteDaySummary toModel() {
+        return RouteDaySummary.builder()
+                .date(departureDate)
+                .currency(currency)
+                .flightCount(flightCount)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .earliestDepartureTime(earliestDepartureTime)
+                .build();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID departureId;
+        private UUID arrivalId;
+        private LocalDate departureDate;
+        private String currency;
+    }
+}
@@ -0,0 +1,31 @@
+package travel.infra.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UUID version 7 ids: 48 bits of Unix epoch milliseconds followed by 74 random bits.
+ * They sort by creation time both as UUIDs and as bytes, and live next to the random
+ * version 4 ids already stored in the same column.
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return next();
+    }
+
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static UUID next(long epochMillis) {
+        var random = ThreadLocalRandom.current();
+        long mostSignificantBits = (epochMillis << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -0,0 +1,169 @@
+package travel.infra.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import travel.exception.DomainException;
+import travel.infra.datasource.DataSourceRoutingAspect;
+import travel.model.BulkFlightCreationReport;
+import travel.model.RoundTripFlights;
+import travel.result.ConnectingFlightResult;
+import travel.result.FlexibleDateFlightResult;
+import travel.result.OneWayFlightResult;
+import travel.result.TwoWayFlightResult;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every call through the three stages of a request: the domain handler, the
+ * flight and port adapters, and the repositories underneath them. Each call lands in
+ * {@value #STAGE_TIMER} tagged by stage, component, operation and outcome, with a
+ * percentile histogram so p50/p99 can be taken per stage. Results that carry flights
+ * also record their size in {@value #RESULT_SIZE}. Meters are registered once per tag
+ * combination and reused, and exceptions are tagged by category rather than by type so
+ * the number of series stays fixed.
+ * <p>
+ * The repository stage covers the Spring Data repositories and the {@code @Repository}
+ * classes that run JDBC statements directly. The aspect runs inside
+ * {@link DataSourceRoutingAspect}, so handlers are timed against the data source they
+ * are routed to.
+ */
+@Aspect
+@Component
+@Order(DataSourceRoutingAspect.ORDER + 1)
+@RequiredArgsConstructor
+public class StageMetricsAspect {
+    static final String STAGE_TIMER = "flight.search.stage";
+    static final String RESULT_SIZE = "flight.search.result.size";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<StageKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<StageKey, DistributionSummary> resultSizes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("execution(* travel.handler.QueryHandler+.handle(..)) || execution(* travel.handler.CommandHandler+.handle(..))")
+    public Object timeHandler(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record("handler", componentOf(joinPoint), joinPoint);
+    }
+
+    @Around("execution(public * travel.port.FlightPort+.*(..)) || execution(public * travel.port.PortPort+.*(..))")
+    public Object timePort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record("port", componentOf(joinPoint), joinPoint);
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        var component = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), proxy -> Arrays.stream(proxy.getInterfaces())
+                .filter(type -> type != Repository.class && Repository.class.isAssignableFrom(type))
+                .map(Class::getSimpleName)
+                .findFirst()
+                .orElse("Repository"));
+
+        return record("repository", component, joinPoint);
+    }
+
+    @Around("@within(org.springframework.stereotype.Repository) && execution(public * *(..))")
+    public Object timeJdbcRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record("repository", componentOf(joinPoint), joinPoint);
+    }
+
+    private Object record(String stage, String component, ProceedingJoinPoint joinPoint) throws Throwable {
+        var operation = joinPoint.getSignature().getName();
+        var sample = Timer.start(meterRegistry);
+        var outcome = "success";
+        var exception = "none";
+
+        try {
+            var result = joinPoint.proceed();
+            var size = sizeOf(result);
+
+            if (size >= 0)
+                resultSizes.computeIfAbsent(new StageKey(stage, component, operation, outcome, exception), key ->
+                        DistributionSummary.builder(RESULT_SIZE)
+                                .tag("stage", key.stage())
+                                .tag("component", key.component())
+                                .tag("operation", key.operation())
+                                .publishPercentileHistogram()
+                                .register(meterRegistry)
+                ).record(size);
+
+            return result;
+        } catch (Throwable e) {
+            outcome = "error";
+            exception = categoryOf(e);
+            throw e;
+        } finally {
+            sample.stop(timers.computeIfAbsent(new StageKey(stage, component, operation, outcome, exception), key ->
+                    Timer.builder(STAGE_TIMER)
+                            .tag("stage", key.stage())
+                            .tag("component", key.component())
+                            .tag("operation", key.operation())
+                            .tag("outcome", key.outcome())
+                            .tag("exception", key.exception())
+                            .publishPercentileHistogram()
+                            .register(meterRegistry)
+            ));
+        }
+    }
+
+    /**
+     * Rejected input (a {@link DomainException}), database failures, or anything else.
+     */
+    public static String categoryOf(Throwable e) {
+        if (e instanceof DomainException)
+            return "validation";
+
+        if (e instanceof DataAccessException)
+            return "data_access";
+
+        return "other";
+    }
+
+    private static String componentOf(ProceedingJoinPoint joinPoint) {
+        return AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+    }
+
+    /**
+     * Number of flights, itineraries or rows a result carries, -1 when it does not carry
+     * a countable result (e.g. a single flight or a lazy stream).
+     */
+    static int sizeOf(Object result) {
+        if (result instanceof Collection<?> collection)
+            return collection.size();
+
+        if (result instanceof OneWayFlightResult oneWay)
+            return oneWay.getFlightCount();
+
+        if (result instanceof TwoWayFlightResult twoWay)
+            return twoWay.getDepartureFlightCount() + twoWay.getReturnFlightCount();
+
+        if (result instanceof RoundTripFlights roundTrip)
+            return roundTrip.getDepartureFlights().size() + roundTrip.getReturnFlights().size();
+
+        if (result instanceof FlexibleDateFlightResult flexibleDate)
+            return flexibleDate.getFlightCount();
+
+        if (result instanceof ConnectingFlightResult connecting)
+            return connecting.getItineraryCount();
+
+        if (result instanceof BulkFlightCreationReport report)
+            return report.getCreatedCount() + report.getFailedCount();
+
+        return -1;
+    }
+
+    private record StageKey(String stage, String component, String operation, String outcome, String exception) {
+    }
+}
@@ -0,0 +1,54 @@
+package travel.infra.partition;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * Runs the {@link FlightPartitionMaintainer} at startup and then periodically. Runs are
+ * idempotent, so the interval only bounds how long after a month ends its partition is
+ * retired.
+ */
+@Configuration
+@EnableScheduling
+public class FlightPartitionConfiguration {
+    @Bean
+    public FlightPartitionMaintainer flightPartitionMaintainer(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${flight-search.partitions.months-ahead:12}") int monthsAhead,
+            @Value("${flight-search.partitions.drop-retired:false}") boolean dropRetired,
+            @Value("${flight-search.partitions.zone:}") String zone) {
+        var clock = zone.isEmpty() ? Clock.systemDefaultZone() : Clock.system(ZoneId.of(zone));
+
+        return new FlightPartitionMaintainer(jdbcTemplate, transactionManager, monthsAhead, dropRetired, clock);
+    }
+
+    @Bean
+    public FlightPartitionSchedule flightPartitionSchedule(
+            FlightPartitionMaintainer flightPartitionMaintainer,
+            @Value("${flight-search.partitions.maintenance-interval:1h}") Duration interval) {
+        return new FlightPartitionSchedule(flightPartitionMaintainer, interval);
+    }
+
+    @RequiredArgsConstructor
+    static class FlightPartitionSchedule implements SchedulingConfigurer {
+        private final FlightPartitionMaintainer flightPartitionMaintainer;
+        private final Duration interval;
+
+        @Override
+        public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+            taskRegistrar.addFixedDelayTask(flightPartitionMaintainer::maintain, interval);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package travel.infra.partition;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of {@code flight} in step with the calendar of the given
+ * clock. Every run makes sure the current month and the next {@code monthsAhead} months
+ * have a partition, moving flights already stored for them out of {@code flight_default},
+ * and retires the partitions of months that are over: they are detached, which keeps them
+ * as standalone archive tables, or dropped. Handlers reject past dates, so searches never
+ * need them.
+ * <p>
+ * Creation is one transaction under an advisory lock, so instances sharing a database do
+ * not maintain the partitions at the same time. Retirement runs afterwards, one partition
+ * at a time: with {@code DETACH PARTITION ... CONCURRENTLY} outside any transaction when
+ * {@code flight} has no default partition, and otherwise, since Postgres refuses
+ * {@code CONCURRENTLY} then, in a short transaction of its own whose lock wait is bounded
+ * by {@code lock_timeout}, so searches queue behind it for at most that long.
+ */
+public class FlightPartitionMaintainer {
+    private static final String LOCK_MAINTAINER = "SELECT pg_try_advisory_xact_lock(?)";
+    private static final String SELECT_PARTITIONS = "SELECT C.relname FROM pg_inherits AS I JOIN pg_class AS C ON C.oid = I.inhrelid WHERE I.inhparent = 'flight'::regclass";
+    private static final String SELECT_DETACH_PENDING = "SELECT C.relname FROM pg_inherits AS I JOIN pg_class AS C ON C.oid = I.inhrelid WHERE I.inhparent = 'flight'::regclass AND I.inhdetachpending";
+    private static final String SELECT_HAS_DEFAULT = "SELECT partdefid <> 0 FROM pg_partitioned_table WHERE partrelid = 'flight'::regclass";
+    private static final String CREATE_PARTITION = "CREATE TABLE %s (LIKE flight INCLUDING DEFAULTS)";
+    private static final String MOVE_FROM_DEFAULT = "WITH moved AS (DELETE FROM flight_default WHERE departure_time >= '%s' AND departure_time < '%s' RETURNING *) INSERT INTO %s SELECT * FROM moved";
+    private static final String ATTACH_PARTITION = "ALTER TABLE flight ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')";
+    private static final String SET_LOCK_TIMEOUT = "SET LOCAL lock_timeout = '1s'";
+    private static final String DETACH_PARTITION = "ALTER TABLE flight DETACH PARTITION %s";
+    private static final String DETACH_PARTITION_CONCURRENTLY = "ALTER TABLE flight DETACH PARTITION %s CONCURRENTLY";
+    private static final String FINALIZE_DETACH = "ALTER TABLE flight DETACH PARTITION %s FINALIZE";
+    private static final String DROP_PARTITION = "DROP TABLE %s";
+    private static final long MAINTAINER_LOCK_KEY = 0x50415254L;
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("flight_\\d{4}_\\d{2}");
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'flight_'yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final boolean dropRetired;
+    private final Clock clock;
+
+    public FlightPartitionMaintainer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                     int monthsAhead, boolean dropRetired, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.dropRetired = dropRetired;
+        this.clock = clock;
+    }
+
+    public void maintain() {
+        var current = YearMonth.now(clock);
+        var retired = transactionTemplate.execute(status -> {
+            if (!locked())
+                return List.<String>of();
+
+            var partitions = new HashSet<>(jdbcTemplate.queryForList(SELECT_PARTITIONS, String.class));
+
+            for (var month = current; !month.isAfter(current.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+                if (!partitions.contains(PARTITION_NAME.format(month)))
+                    create(month);
+            }
+
+            return partitions.stream()
+                    .filter(partition -> MONTHLY_PARTITION.matcher(partition).matches())
+                    .filter(partition -> YearMonth.parse(partition, PARTITION_NAME).isBefore(current))
+                    .sorted()
+                    .toList();
+        });
+
+        if (retired == null || retired.isEmpty())
+            return;
+
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(SELECT_HAS_DEFAULT, Boolean.class)))
+            retired.forEach(this::retire);
+        else
+            retireConcurrently(retired);
+    }
+
+    private boolean locked() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_MAINTAINER, Boolean.class, MAINTAINER_LOCK_KEY));
+    }
+
+    private void create(YearMonth month) {
+        var partition = PARTITION_NAME.format(month);
+        var from = month.atDay(1).atStartOfDay();
+        var to = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        jdbcTemplate.execute(CREATE_PARTITION.formatted(partition));
+        jdbcTemplate.execute(MOVE_FROM_DEFAULT.formatted(from, to, partition));
+        jdbcTemplate.execute(ATTACH_PARTITION.formatted(partition, from, to));
+    }
+
+    private void retire(String partition) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!locked())
+                return;
+
+            jdbcTemplate.execute(SET_LOCK_TIMEOUT);
+            jdbcTemplate.execute(DETACH_PARTITION.formatted(partition));
+
+            if (dropRetired)
+                jdbcTemplate.execute(DROP_PARTITION.formatted(partition));
+        });
+    }
+
+    /**
+     * Runs outside any transaction, as {@code CONCURRENTLY} requires. A detach that was
+     * interrupted half-way leaves the partition pending; it is finished first.
+     */
+    private void retireConcurrently(List<String> partitions) {
+        var pending = new HashSet<>(jdbcTemplate.queryForList(SELECT_DETACH_PENDING, String.class));
+
+        for (var partition : partitions) {
+            jdbcTemplate.execute((pending.contains(partition) ? FINALIZE_DETACH : DETACH_PARTITION_CONCURRENTLY).formatted(partition));
+
+            if (dropRetired)
+                jdbcTemplate.execute(DROP_PARTITION.formatted(partition));
+        }
+    }
+}
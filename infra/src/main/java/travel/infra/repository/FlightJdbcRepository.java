@@ -0,0 +1,105 @@
+package travel.infra.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import travel.infra.entity.FlightRow;
+import travel.model.Flight;
+import travel.model.RouteDaySummary;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * The flight statements that go through plain JDBC instead of JPA: the batched
+ * route-day read, the batch insert and the route-day summary upsert.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FlightJdbcRepository {
+    private static final String INSERT_FLIGHT = "INSERT INTO flight (id, departure_port_id, arrival_port_id, departure_time, amount, currency) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final String SELECT_ROUTE_DAYS = "SELECT F.id, F.departure_port_id, F.arrival_port_id, F.departure_time, F.amount, F.currency FROM unnest(?, ?, CAST(? AS DATE[])) AS R(departure_port_id, arrival_port_id, departure_date) JOIN flight AS F ON F.departure_port_id = R.departure_port_id AND F.arrival_port_id = R.arrival_port_id AND F.departure_time >= R.departure_date AND F.departure_time < R.departure_date + 1 WHERE F.departure_time >= ? AND F.departure_time < ? ORDER BY F.departure_time";
+    private static final String UPSERT_ROUTE_DAY_SUMMARY = "INSERT INTO route_day_summary (departure_port_id, arrival_port_id, departure_date, currency, flight_count, min_amount, max_amount, earliest_departure_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (departure_port_id, arrival_port_id, departure_date, currency) DO UPDATE SET flight_count = route_day_summary.flight_count + EXCLUDED.flight_count, min_amount = LEAST(route_day_summary.min_amount, EXCLUDED.min_amount), max_amount = GREATEST(route_day_summary.max_amount, EXCLUDED.max_amount), earliest_departure_time = LEAST(route_day_summary.earliest_departure_time, EXCLUDED.earliest_departure_time)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reads the flights of every (departure, arrival, day) tuple, given as three parallel
+     * lists, in one statement ordered by departure time.
+     */
+    @Transactional(readOnly = true)
+    public List<FlightRow> findAllByRouteDays(List<UUID> departureIds, List<UUID> arrivalIds, List<LocalDate> days) {
+        // The join bounds depend on the unnested rows, so only this range lets the
+        // planner skip the partitions of months no route-day falls in.
+        var from = Collections.min(days).atStartOfDay();
+        var to = Collections.max(days).plusDays(1).atStartOfDay();
+        var rows = new ArrayList<FlightRow>();
+
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT_ROUTE_DAYS);
+
+            statement.setArray(1, connection.createArrayOf("uuid", departureIds.toArray()));
+            statement.setArray(2, connection.createArrayOf("uuid", arrivalIds.toArray()));
+            statement.setArray(3, connection.createArrayOf("varchar", days.stream().map(LocalDate::toString).toArray()));
+            statement.setObject(4, from);
+            statement.setObject(5, to);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> rows.add(new FlightRow(
+                resultSet.getObject(1, UUID.class),
+                resultSet.getObject(2, UUID.class),
+                resultSet.getObject(3, UUID.class),
+                resultSet.getObject(4, LocalDateTime.class),
+                resultSet.getDouble(5),
+                resultSet.getString(6)
+        )));
+        return rows;
+    }
+
+    /**
+     * Inserts the flights in JDBC batches within the caller's transaction.
+     */
+    public void insertAll(List<Flight> flights) {
+        jdbcTemplate.batchUpdate(INSERT_FLIGHT, flights, INSERT_BATCH_SIZE, (statement, flight) -> {
+            statement.setObject(1, flight.getId());
+            statement.setObject(2, flight.getDeparture().getId());
+            statement.setObject(3, flight.getArrival().getId());
+            statement.setObject(4, flight.getDepartureTime());
+            statement.setDouble(5, flight.getAmount());
+            statement.setString(6, flight.getCurrency());
+        });
+    }
+
+    /**
+     * Folds the flights into their route-day summaries within the caller's transaction.
+     * Rows are upserted in key order, so concurrent writers touching the same route-days
+     * wait on each other instead of deadlocking.
+     */
+    public void addToRouteDaySummaries(List<Flight> flights) {
+        var routes = flights.stream()
+                .collect(Collectors.groupingBy(flight -> flight.getDeparture().getId(), TreeMap::new,
+                        Collectors.groupingBy(flight -> flight.getArrival().getId(), TreeMap::new, Collectors.toList())));
+        var rows = new ArrayList<Object[]>();
+
+        routes.forEach((departureId, flightsByArrival) -> flightsByArrival.forEach((arrivalId, routeFlights) ->
+                RouteDaySummary.summarise(routeFlights).forEach(summary -> rows.add(new Object[]{
+                        departureId,
+                        arrivalId,
+                        summary.getDate(),
+                        summary.getCurrency(),
+                        summary.getFlightCount(),
+                        summary.getMinAmount(),
+                        summary.getMaxAmount(),
+                        summary.getEarliestDepartureTime()
+                }))));
+        jdbcTemplate.batchUpdate(UPSERT_ROUTE_DAY_SUMMARY, rows);
+    }
+}
@@ -1,13 +1,20 @@
 package travel.infra.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import travel.infra.entity.FlightEntity;
+import travel.infra.entity.FlightRow;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface FlightRepository extends JpaRepository<FlightEntity, UUID> {
     @Query("SELECT F FROM FlightEntity AS F WHERE F.departure.name = :departure AND F.arrival.name = :arrival AND F.departureTime >= :timeRangeStart AND F.departureTime <= :timeRangeEnd")
@@ -17,4 +24,80 @@ public interface FlightRepository extends JpaRepository<FlightEntity, UUID> {
             @Param("timeRangeStart") LocalDateTime timeRangeStart,
             @Param("timeRangeEnd") LocalDateTime timeRangeEnd
     );
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new travel.infra.entity.FlightRow(F.id, F.departure.id, F.arrival.id, F.departureTime, F.amount, F.currency) FROM FlightEntity AS F WHERE F.departure.id = :departureId AND F.arrival.id = :arrivalId AND F.departureTime >= :timeRangeStart AND F.departureTime <= :timeRangeEnd ORDER BY F.departureTime")
+    List<FlightRow> findAllByRoute(
+            @Param("departureId") UUID departureId,
+            @Param("arrivalId") UUID arrivalId,
+            @Param("timeRangeStart") LocalDateTime timeRangeStart,
+            @Param("timeRangeEnd") LocalDateTime timeRangeEnd
+    );
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new travel.infra.entity.FlightRow(F.id, F.departure.id, F.arrival.id, F.departureTime, F.amount, F.currency) FROM FlightEntity AS F WHERE F.departure.id = :departureId AND F.arrival.id = :arrivalId AND F.departureTime >= :timeRangeStart AND F.departureTime <= :timeRangeEnd ORDER BY F.departureTime, F.id")
+    List<FlightRow> findPageByRouteOrderByDepartureTime(
+            @Param("departureId") UUID departureId,
+            @Param("arrivalId") UUID arrivalId,
+            @Param("timeRangeStart") LocalDateTime timeRangeStart,
+            @Param("timeRangeEnd") LocalDateTime timeRangeEnd,
+            Pageable pageable
+    );
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new travel.infra.entity.FlightRow(F.id, F.departure.id, F.arrival.id, F.departureTime, F.amount, F.currency) FROM FlightEntity AS F WHERE F.departure.id = :departureId AND F.arrival.id = :arrivalId AND F.departureTime >= :timeRangeStart AND F.departureTime <= :timeRangeEnd AND (F.departureTime > :afterDepartureTime OR (F.departureTime = :afterDepartureTime AND F.id > :afterId)) ORDER BY F.departureTime, F.id")
+    List<FlightRow> findPageByRouteAfterDepartureTime(
+            @Param("departureId") UUID departureId,
+            @Param("arrivalId") UUID arrivalId,
+            @Param("timeRangeStart") LocalDateTime timeRangeStart,
+            @Param("timeRangeEnd") LocalDateTime timeRangeEnd,
+            @Param("afterDepartureTime") LocalDateTime afterDepartureTime,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
+    );
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new travel.infra.entity.FlightRow(F.id, F.departure.id, F.arrival.id, F.departureTime, F.amount, F.currency) FROM FlightEntity AS F WHERE F.departure.id = :departureId AND F.arrival.id = :arrivalId AND F.departureTime >= :timeRangeStart AND F.departureTime <= :timeRangeEnd ORDER BY F.amount, F.id")
+    List<FlightRow> findPageByRouteOrderByAmount(
+            @Param("departureId") UUID departureId,
+            @Param("arrivalId") UUID arrivalId,
+            @Param("timeRangeStart") LocalDateTime timeRangeStart,
+            @Param("timeRangeEnd") LocalDateTime timeRangeEnd,
+            Pageable pageable
+    );
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new travel.infra.entity.FlightRow(F.id, F.departure.id, F.arrival.id, F.departureTime, F.amount, F.currency) FROM FlightEntity AS F WHERE F.departure.id = :departureId AND F.arrival.id = :arrivalId AND F.departureTime >= :timeRangeStart AND F.departureTime <= :timeRangeEnd AND (F.amount > :afterAmount OR (F.amount = :afterAmount AND F.id > :afterId)) ORDER BY F.amount, F.id")
+    List<FlightRow> findPageByRouteAfterAmount(
+            @Param("departureId") UUID departureId,
+            @Param("arrivalId") UUID arrivalId,
+            @Param("timeRangeStart") LocalDateTime timeRangeStart,
+            @Param("timeRangeEnd") LocalDateTime timeRangeEnd,
+            @Param("afterAmount") double afterAmount,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256")
+    })
+    @Query("SELECT new travel.infra.entity.FlightRow(F.id, F.departure.id, F.arrival.id, F.departureTime, F.amount, F.currency) FROM FlightEntity AS F WHERE F.departure.id = :departureId AND F.arrival.id = :arrivalId AND F.departureTime >= :timeRangeStart AND F.departureTime <= :timeRangeEnd ORDER BY F.departureTime")
+    Stream<FlightRow> streamAllByRoute(
+            @Param("departureId") UUID departureId,
+            @Param("arrivalId") UUID arrivalId,
+            @Param("timeRangeStart") LocalDateTime timeRangeStart,
+            @Param("timeRangeEnd") LocalDateTime timeRangeEnd
+    );
+
+    @Query("SELECT new travel.infra.entity.FlightRow(F.id, F.departure.id, F.arrival.id, F.departureTime, F.amount, F.currency) FROM FlightEntity AS F WHERE (F.departure.id = :departureId AND F.arrival.id = :arrivalId AND F.departureTime >= :departureRangeStart AND F.departureTime <= :departureRangeEnd) OR (F.departure.id = :arrivalId AND F.arrival.id = :departureId AND F.departureTime >= :returnRangeStart AND F.departureTime <= :returnRangeEnd) ORDER BY F.departureTime")
+    List<FlightRow> findAllByRoundTrip(
+            @Param("departureId") UUID departureId,
+            @Param("arrivalId") UUID arrivalId,
+            @Param("departureRangeStart") LocalDateTime departureRangeStart,
+            @Param("departureRangeEnd") LocalDateTime departureRangeEnd,
+            @Param("returnRangeStart") LocalDateTime returnRangeStart,
+            @Param("returnRangeEnd") LocalDateTime returnRangeEnd
+    );
+
+    List<FlightEntity> findAllByDepartureTimeGreaterThanEqual(LocalDateTime departureTime);
 }
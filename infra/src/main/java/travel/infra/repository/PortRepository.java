@@ -1,10 +1,22 @@
 package travel.infra.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import travel.infra.entity.PortEntity;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface PortRepository extends JpaRepository<PortEntity, UUID> {
     PortEntity findByName(String name);
-}
+
+    PortEntity findFirstByNameIgnoreCase(String name);
+
+    /**
+     * Expects upper-cased names, matching the UPPER(name) index.
+     */
+    @Query("SELECT P FROM PortEntity AS P WHERE UPPER(P.name) IN :names")
+    List<PortEntity> findAllByUpperCaseNameIn(@Param("names") Collection<String> names);
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package travel.infra.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import travel.infra.entity.RouteDaySummaryEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface RouteDaySummaryRepository extends JpaRepository<RouteDaySummaryEntity, RouteDaySummaryEntity.Key> {
+    @Query("SELECT S FROM RouteDaySummaryEntity AS S WHERE S.departureId = :departureId AND S.arrivalId = :arrivalId AND S.departureDate >= :from AND S.departureDate <= :to ORDER BY S.departureDate, S.currency")
+    List<RouteDaySummaryEntity> findAllByRoute(
+            @Param("departureId") UUID departureId,
+            @Param("arrivalId") UUID arrivalId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+}
@@ -0,0 +1,312 @@
+package travel.infra.snapshot;
+
+import travel.model.Flight;
+import travel.model.Port;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only timetable memory-mapped from a columnar snapshot file. Only the port and
+ * currency dictionaries and the route index are copied onto the heap; flight columns
+ * are read straight from the mapping, so the timetable adds no GC pressure however
+ * large it is. {@link Flight} objects are only created for the flights a search returns.
+ * Searches find their ports by code, which is dense, through a plain array.
+ * <p>
+ * Layout, big-endian, every section starting on an 8-byte boundary:
+ * <pre>
+ * header     magic, version, created at (epoch millis), port, currency, route and
+ *            flight counts, dictionary length
+ * dictionary ports (id, code, UTF-8 name), then currencies (UTF-8 code)
+ * routes     departure port, arrival port, first flight, flight count;
+ *            sorted by departure and arrival port
+ * columns    departure time (epoch seconds, UTC), amount, id (two longs), currency;
+ *            one column per field, flights sorted by route and departure time
+ * </pre>
+ * Departure times are kept at second resolution.
+ */
+public class TimetableSnapshot {
+    static final int MAGIC = 0x46534E50;
+    static final int VERSION = 2;
+    private static final int HEADER_BYTES = 40;
+    private static final int ROUTE_BYTES = 16;
+    private static final Comparator<Flight> BY_DEPARTURE_TIME = Comparator.comparing(Flight::getDepartureTime);
+
+    private final ByteBuffer buffer;
+    private final Instant createdAt;
+    private final Port[] ports;
+    private final String[] currencies;
+    private final int[] portIndexes;
+    private final Map<Long, Integer> routeIndexes = new HashMap<>();
+    private final int routeCount;
+    private final int flightCount;
+    private final int routesOffset;
+    private final int departureTimesOffset;
+    private final int amountsOffset;
+    private final int idsOffset;
+    private final int currenciesOffset;
+
+    private TimetableSnapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+            throw new IllegalStateException("Not a version " + VERSION + " timetable snapshot.");
+
+        createdAt = Instant.ofEpochMilli(buffer.getLong(8));
+        ports = new Port[buffer.getInt(16)];
+        currencies = new String[buffer.getInt(20)];
+        routeCount = buffer.getInt(24);
+        flightCount = buffer.getInt(28);
+        routesOffset = HEADER_BYTES + align(buffer.getInt(32));
+        departureTimesOffset = routesOffset + routeCount * ROUTE_BYTES;
+        amountsOffset = departureTimesOffset + flightCount * Long.BYTES;
+        idsOffset = amountsOffset + flightCount * Double.BYTES;
+        currenciesOffset = idsOffset + flightCount * 2 * Long.BYTES;
+
+        var dictionary = buffer.duplicate().position(HEADER_BYTES);
+        var maxCode = -1;
+
+        for (var index = 0; index < ports.length; index++) {
+            var id = new UUID(dictionary.getLong(), dictionary.getLong());
+            var code = dictionary.getInt();
+
+            ports[index] = Port.builder().id(id).code(code).name(readString(dictionary)).build();
+            maxCode = Math.max(maxCode, code);
+        }
+
+        portIndexes = new int[maxCode + 1];
+        Arrays.fill(portIndexes, -1);
+
+        for (var index = 0; index < ports.length; index++)
+            portIndexes[ports[index].getCode()] = index;
+
+        for (var index = 0; index < currencies.length; index++)
+            currencies[index] = readString(dictionary);
+
+        for (var route = 0; route < routeCount; route++)
+            routeIndexes.put(routeKey(routeInt(route, 0), routeInt(route, 1)), route);
+    }
+
+    public static TimetableSnapshot open(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new TimetableSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes the flights and the given ports, plus any other port the flights refer to,
+     * to a temporary file next to {@code path} and moves it into place, so readers never
+     * map a half-written snapshot.
+     *
+     * @return the size of the snapshot in bytes
+     */
+    public static long write(Path path, Collection<Port> ports, Collection<Flight> flights) throws IOException {
+        var portIndexes = new LinkedHashMap<UUID, Integer>();
+        var portList = new ArrayList<Port>();
+        var currencyIndexes = new LinkedHashMap<String, Integer>();
+
+        for (var port : ports)
+            portIndexes.computeIfAbsent(port.getId(), id -> add(portList, port));
+
+        for (var flight : flights) {
+            portIndexes.computeIfAbsent(flight.getDeparture().getId(), id -> add(portList, flight.getDeparture()));
+            portIndexes.computeIfAbsent(flight.getArrival().getId(), id -> add(portList, flight.getArrival()));
+            currencyIndexes.computeIfAbsent(flight.getCurrency(), currency -> currencyIndexes.size());
+        }
+
+        var sorted = flights.stream()
+                .sorted(Comparator.<Flight>comparingInt(flight -> portIndexes.get(flight.getDeparture().getId()))
+                        .thenComparingInt(flight -> portIndexes.get(flight.getArrival().getId()))
+                        .thenComparing(Flight::getDepartureTime)
+                        .thenComparing(Flight::getId))
+                .toList();
+        var routes = new ArrayList<int[]>();
+
+        for (var index = 0; index < sorted.size(); index++) {
+            var departure = portIndexes.get(sorted.get(index).getDeparture().getId());
+            var arrival = portIndexes.get(sorted.get(index).getArrival().getId());
+            var last = routes.isEmpty() ? null : routes.get(routes.size() - 1);
+
+            if (last != null && last[0] == departure && last[1] == arrival)
+                last[3]++;
+            else
+                routes.add(new int[]{departure, arrival, index, 1});
+        }
+
+        var names = portList.stream().map(port -> port.getName().getBytes(StandardCharsets.UTF_8)).toList();
+        var codes = currencyIndexes.keySet().stream().map(currency -> currency.getBytes(StandardCharsets.UTF_8)).toList();
+        var dictionaryBytes = names.stream().mapToInt(name -> 2 * Long.BYTES + Integer.BYTES + Short.BYTES + name.length).sum()
+                + codes.stream().mapToInt(code -> Short.BYTES + code.length).sum();
+        var size = (long) HEADER_BYTES + align(dictionaryBytes) + (long) routes.size() * ROUTE_BYTES
+                + (long) sorted.size() * (Long.BYTES + Double.BYTES + 2 * Long.BYTES + Short.BYTES);
+
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("A timetable snapshot can not be larger than 2 GB.");
+
+        var temporary = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+
+        try (var channel = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+            out.putInt(MAGIC).putInt(VERSION).putLong(System.currentTimeMillis())
+                    .putInt(portList.size()).putInt(codes.size()).putInt(routes.size()).putInt(sorted.size())
+                    .putInt(dictionaryBytes).putInt(0);
+
+            for (var index = 0; index < portList.size(); index++) {
+                out.putLong(portList.get(index).getId().getMostSignificantBits());
+                out.putLong(portList.get(index).getId().getLeastSignificantBits());
+                out.putInt(portList.get(index).getCode());
+                out.putShort((short) names.get(index).length).put(names.get(index));
+            }
+
+            for (var code : codes)
+                out.putShort((short) code.length).put(code);
+
+            out.position(HEADER_BYTES + align(dictionaryBytes));
+            routes.forEach(route -> out.putInt(route[0]).putInt(route[1]).putInt(route[2]).putInt(route[3]));
+            sorted.forEach(flight -> out.putLong(flight.getDepartureTime().toEpochSecond(ZoneOffset.UTC)));
+            sorted.forEach(flight -> out.putDouble(flight.getAmount()));
+            sorted.forEach(flight -> out.putLong(flight.getId().getMostSignificantBits())
+                    .putLong(flight.getId().getLeastSignificantBits()));
+            sorted.forEach(flight -> out.putShort(currencyIndexes.get(flight.getCurrency()).shortValue()));
+            out.force();
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(temporary);
+            throw exception;
+        }
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return size;
+    }
+
+    /**
+     * Returns the flights of a route departing within the inclusive range, ordered by
+     * departure time.
+     */
+    public List<Flight> find(Port departure, Port arrival, LocalDateTime from, LocalDateTime to) {
+        var departureIndex = portIndex(departure.getCode());
+        var arrivalIndex = portIndex(arrival.getCode());
+
+        if (departureIndex < 0 || arrivalIndex < 0)
+            return List.of();
+
+        var route = routeIndexes.get(routeKey(departureIndex, arrivalIndex));
+
+        if (route == null)
+            return List.of();
+
+        var flights = new ArrayList<Flight>();
+
+        collect(route, from, to, flights);
+        return flights;
+    }
+
+    /**
+     * Returns every flight departing within the inclusive range, ordered by departure time.
+     */
+    public List<Flight> findDepartingBetween(LocalDateTime from, LocalDateTime to) {
+        var flights = new ArrayList<Flight>();
+
+        for (var route = 0; route < routeCount; route++)
+            collect(route, from, to, flights);
+
+        flights.sort(BY_DEPARTURE_TIME);
+        return flights;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getPortCount() {
+        return ports.length;
+    }
+
+    public int getFlightCount() {
+        return flightCount;
+    }
+
+    private void collect(int route, LocalDateTime from, LocalDateTime to, List<Flight> flights) {
+        var first = routeInt(route, 2);
+        var end = first + routeInt(route, 3);
+        var departure = ports[routeInt(route, 0)];
+        var arrival = ports[routeInt(route, 1)];
+        var upper = to.toEpochSecond(ZoneOffset.UTC);
+
+        for (var index = lowerBound(first, end, from.toEpochSecond(ZoneOffset.UTC) + (from.getNano() > 0 ? 1 : 0));
+             index < end && departureTime(index) <= upper; index++)
+            flights.add(Flight.builder()
+                    .id(new UUID(buffer.getLong(idsOffset + index * 2 * Long.BYTES),
+                            buffer.getLong(idsOffset + index * 2 * Long.BYTES + Long.BYTES)))
+                    .departure(departure)
+                    .arrival(arrival)
+                    .departureTime(LocalDateTime.ofEpochSecond(departureTime(index), 0, ZoneOffset.UTC))
+                    .amount(buffer.getDouble(amountsOffset + index * Double.BYTES))
+                    .currency(currencies[buffer.getShort(currenciesOffset + index * Short.BYTES)])
+                    .build());
+    }
+
+    private int lowerBound(int from, int to, long departureTime) {
+        while (from < to) {
+            var middle = (from + to) >>> 1;
+
+            if (departureTime(middle) < departureTime)
+                from = middle + 1;
+            else
+                to = middle;
+        }
+
+        return from;
+    }
+
+    private int portIndex(int code) {
+        return code >= 0 && code < portIndexes.length ? portIndexes[code] : -1;
+    }
+
+    private long departureTime(int index) {
+        return buffer.getLong(departureTimesOffset + index * Long.BYTES);
+    }
+
+    private int routeInt(int route, int field) {
+        return buffer.getInt(routesOffset + route * ROUTE_BYTES + field * Integer.BYTES);
+    }
+
+    private static long routeKey(int departure, int arrival) {
+        return (long) departure << 32 | arrival;
+    }
+
+    private static String readString(ByteBuffer dictionary) {
+        var bytes = new byte[dictionary.getShort()];
+
+        dictionary.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int align(int bytes) {
+        return (bytes + 7) & ~7;
+    }
+
+    private static int add(List<Port> ports, Port port) {
+        ports.add(port);
+        return ports.size() - 1;
+    }
+}
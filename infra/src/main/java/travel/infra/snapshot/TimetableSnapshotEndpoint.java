@@ -0,0 +1,78 @@
+package travel.infra.snapshot;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import travel.infra.adapter.FlightAdapter;
+import travel.infra.adapter.SnapshotFlightAdapter;
+import travel.infra.entity.PortEntity;
+import travel.infra.repository.PortRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes the upcoming flights from the database to the snapshot file and, on an instance
+ * serving from a snapshot, maps the new file. Reading describes the file on disk and the
+ * snapshot currently mapped, if any. Exposed over JMX only, since writing reads the whole
+ * upcoming timetable.
+ */
+@Component
+@Endpoint(id = "snapshot")
+public class TimetableSnapshotEndpoint {
+    private final FlightAdapter flightAdapter;
+    private final PortRepository portRepository;
+    private final ObjectProvider<SnapshotFlightAdapter> snapshotFlightAdapter;
+    private final Path path;
+
+    public TimetableSnapshotEndpoint(FlightAdapter flightAdapter,
+                                     PortRepository portRepository,
+                                     ObjectProvider<SnapshotFlightAdapter> snapshotFlightAdapter,
+                                     @Value("${flight-search.snapshot.path:timetable.snapshot}") Path path) {
+        this.flightAdapter = flightAdapter;
+        this.portRepository = portRepository;
+        this.snapshotFlightAdapter = snapshotFlightAdapter;
+        this.path = path;
+    }
+
+    @ReadOperation
+    public Map<String, Object> describe() throws IOException {
+        var description = new LinkedHashMap<String, Object>();
+        description.put("path", path.toAbsolutePath().toString());
+
+        if (Files.exists(path))
+            description.put("bytes", Files.size(path));
+
+        var adapter = snapshotFlightAdapter.getIfAvailable();
+        var snapshot = adapter == null ? null : adapter.getSnapshot();
+
+        if (snapshot != null) {
+            description.put("createdAt", snapshot.getCreatedAt());
+            description.put("ports", snapshot.getPortCount());
+            description.put("flights", snapshot.getFlightCount());
+        }
+
+        return description;
+    }
+
+    @WriteOperation
+    public Map<String, Object> write() throws IOException {
+        var ports = portRepository.findAll().stream().map(PortEntity::toModel).toList();
+        var flights = flightAdapter.getUpcomingFlights(LocalDate.now().atStartOfDay());
+
+        var bytes = TimetableSnapshot.write(path, ports, flights);
+        snapshotFlightAdapter.ifAvailable(SnapshotFlightAdapter::load);
+
+        var description = describe();
+        description.putIfAbsent("bytes", bytes);
+        description.putIfAbsent("flights", flights.size());
+        return description;
+    }
+}
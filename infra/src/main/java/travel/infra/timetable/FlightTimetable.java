@@ -0,0 +1,124 @@
+package travel.infra.timetable;
+
+import travel.model.Flight;
+import travel.model.Port;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process index of flights keyed on (departure port, arrival port, departure day),
+ * with ports identified by their codes. Each bucket is an immutable list sorted by
+ * departure time, replaced as a whole on insert so readers never need to lock. A second
+ * index orders every flight by departure time and serves as the connection array for
+ * multi-leg searches. A flight is indexed once per id, so the same flight can arrive
+ * both from a local write and from the change feed. Flights that have departed are only
+ * dropped through {@link #evictDepartingBefore(LocalDateTime)}.
+ */
+public class FlightTimetable {
+    private static final Comparator<Flight> BY_DEPARTURE_TIME =
+            Comparator.comparing(Flight::getDepartureTime);
+
+    private final Map<RouteDay, List<Flight>> flights = new ConcurrentHashMap<>();
+    private final NavigableMap<LocalDateTime, List<Flight>> departures =
+            new ConcurrentSkipListMap<>();
+    private final Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+    public List<Flight> find(Port departure, Port arrival, LocalDate day) {
+        return flights.getOrDefault(RouteDay.of(departure, arrival, day), List.of());
+    }
+
+    public List<Flight> findDepartingBetween(LocalDateTime from, LocalDateTime to) {
+        var result = new ArrayList<Flight>();
+
+        departures.subMap(from, true, to, true).values().forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Returns false, leaving the timetable as it is, when a flight with the same id is
+     * already indexed.
+     */
+    public boolean add(Flight flight) {
+        if (!ids.add(flight.getId()))
+            return false;
+
+        flights.compute(keyOf(flight), (key, bucket) -> insert(bucket, flight));
+        departures.compute(flight.getDepartureTime(),
+                (key, bucket) -> insert(bucket, flight));
+        return true;
+    }
+
+    public void addAll(Collection<Flight> batch) {
+        batch.forEach(this::add);
+    }
+
+    /**
+     * Drops every flight departing before the given time and returns how many were
+     * dropped.
+     */
+    public int evictDepartingBefore(LocalDateTime time) {
+        var evicted = 0;
+        var past = departures.headMap(time, false);
+
+        for (var entry : past.entrySet()) {
+            for (var flight : entry.getValue()) {
+                flights.computeIfPresent(keyOf(flight),
+                        (key, bucket) -> remove(bucket, flight));
+                ids.remove(flight.getId());
+                evicted++;
+            }
+
+            past.remove(entry.getKey(), entry.getValue());
+        }
+
+        return evicted;
+    }
+
+    public int size() {
+        return flights.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static RouteDay keyOf(Flight flight) {
+        return RouteDay.of(flight.getDeparture(), flight.getArrival(),
+                flight.getDepartureTime().toLocalDate());
+    }
+
+    /**
+     * Null once the bucket is empty, which removes it from the index.
+     */
+    private static List<Flight> remove(List<Flight> bucket, Flight flight) {
+        var updated = bucket.stream()
+                .filter(other -> !other.getId().equals(flight.getId()))
+                .toList();
+
+        return updated.isEmpty() ? null : updated;
+    }
+
+    private static List<Flight> insert(List<Flight> bucket, Flight flight) {
+        if (bucket == null)
+            return List.of(flight);
+
+        var updated = new ArrayList<Flight>(bucket.size() + 1);
+        var index = 0;
+
+        while (index < bucket.size()
+                && BY_DEPARTURE_TIME.compare(bucket.get(index), flight) <= 0)
+            index++;
+
+        updated.addAll(bucket.subList(0, index));
+        updated.add(flight);
+        updated.addAll(bucket.subList(index, bucket.size()));
+        return List.copyOf(updated);
+    }
+}
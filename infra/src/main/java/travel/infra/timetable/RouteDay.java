@@ -0,0 +1,21 @@
+package travel.infra.timetable;
+
+import lombok.Value;
+import travel.model.Port;
+
+import java.time.LocalDate;
+
+/**
+ * Keyed on port codes rather than names, so hashing and comparing a key never touches a
+ * string. Callers resolve names through the port registry first.
+ */
+@Value
+public class RouteDay {
+    int departure;
+    int arrival;
+    LocalDate day;
+
+    public static RouteDay of(Port departure, Port arrival, LocalDate day) {
+        return new RouteDay(departure.getCode(), arrival.getCode(), day);
+    }
+}
@@ -0,0 +1,37 @@
+-- Databases created by Hibernate (ddl-auto: create) before migrations existed already have
+-- both tables; Flyway baselines them below this version, so every statement here must also
+-- hold on such a schema.
+CREATE TABLE IF NOT EXISTS port
+(
+    id   UUID         NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS flight
+(
+    id                UUID           NOT NULL PRIMARY KEY,
+    departure_port_id UUID           NOT NULL REFERENCES port (id),
+    arrival_port_id   UUID           NOT NULL REFERENCES port (id),
+    departure_time    TIMESTAMP(6)   NOT NULL,
+    amount            FLOAT(53)      NOT NULL,
+    currency          VARCHAR(255)   NOT NULL
+);
+
+-- Hibernate-created schemas may hold ports whose names differ only by case. One port per
+-- name is kept, and flights of the others are moved to it before the unique index is built.
+CREATE TEMPORARY TABLE port_duplicate ON COMMIT DROP AS
+SELECT id, FIRST_VALUE(id) OVER (PARTITION BY UPPER(name) ORDER BY name, id) AS kept_id
+FROM port;
+
+DELETE FROM port_duplicate WHERE id = kept_id;
+
+UPDATE flight F SET departure_port_id = D.kept_id FROM port_duplicate D WHERE F.departure_port_id = D.id;
+UPDATE flight F SET arrival_port_id = D.kept_id FROM port_duplicate D WHERE F.arrival_port_id = D.id;
+DELETE FROM port P USING port_duplicate D WHERE P.id = D.id;
+
+-- Port names are compared case-insensitively (PortRepository.findFirstByNameIgnoreCase).
+CREATE UNIQUE INDEX IF NOT EXISTS port_name_idx ON port (UPPER(name));
+
+-- Serves route/day searches (FlightRepository.findAllByRoute) as a single range scan
+-- that already returns rows ordered by departure time.
+CREATE INDEX IF NOT EXISTS flight_route_departure_time_idx ON flight (departure_port_id, arrival_port_id, departure_time);
@@ -0,0 +1,3 @@
+-- Serves time-window scans over the whole timetable (FlightRepository.findAllDepartingBetween)
+-- used by the connecting-flight search.
+CREATE INDEX flight_departure_time_idx ON flight (departure_time);
@@ -0,0 +1,26 @@
+-- Per route, day and currency aggregates of flight, upserted by FlightAdapter in the same
+-- transaction as the flights they count. Serves summary searches without reading flight rows.
+CREATE TABLE route_day_summary
+(
+    departure_port_id       UUID         NOT NULL REFERENCES port (id),
+    arrival_port_id         UUID         NOT NULL REFERENCES port (id),
+    departure_date          DATE         NOT NULL,
+    currency                VARCHAR(255) NOT NULL,
+    flight_count            INTEGER      NOT NULL,
+    min_amount              FLOAT(53)    NOT NULL,
+    max_amount              FLOAT(53)    NOT NULL,
+    earliest_departure_time TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (departure_port_id, arrival_port_id, departure_date, currency)
+);
+
+INSERT INTO route_day_summary
+SELECT departure_port_id,
+       arrival_port_id,
+       CAST(departure_time AS DATE),
+       currency,
+       COUNT(*),
+       MIN(amount),
+       MAX(amount),
+       MIN(departure_time)
+FROM flight
+GROUP BY departure_port_id, arrival_port_id, CAST(departure_time AS DATE), currency;
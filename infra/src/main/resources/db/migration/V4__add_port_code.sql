@@ -0,0 +1,19 @@
+-- Dense integer code per port, assigned on insert. Adapters key their in-memory indexes
+-- and caches on it instead of names or ids. Existing ports are numbered in id order.
+CREATE SEQUENCE port_code_seq AS INTEGER;
+
+ALTER TABLE port ADD COLUMN code INTEGER;
+
+UPDATE port
+SET code = numbered.code
+FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS code FROM port) AS numbered
+WHERE port.id = numbered.id;
+
+SELECT setval('port_code_seq', COALESCE(MAX(code), 0) + 1, false) FROM port;
+
+ALTER TABLE port
+    ALTER COLUMN code SET DEFAULT nextval('port_code_seq'),
+    ALTER COLUMN code SET NOT NULL,
+    ADD CONSTRAINT port_code_key UNIQUE (code);
+
+ALTER SEQUENCE port_code_seq OWNED BY port.code;
@@ -0,0 +1,23 @@
+-- Transactional outbox behind ChangeFeedAdapter. Rows are inserted in the same transaction
+-- as the port or flight they describe, without a sequence. After commit, the publisher numbers
+-- them from change_event_sequence_seq in id order; consumers only ever read numbered rows, so
+-- a consumer never sees a sequence before every lower one is visible.
+-- Flight columns are copied rather than referenced, so events outlive the flight rows.
+CREATE SEQUENCE change_event_sequence_seq;
+
+CREATE TABLE change_event
+(
+    id                BIGSERIAL    NOT NULL PRIMARY KEY,
+    sequence          BIGINT UNIQUE,
+    type              VARCHAR(32)  NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL DEFAULT LOCALTIMESTAMP,
+    port_id           UUID,
+    flight_id         UUID,
+    departure_port_id UUID,
+    arrival_port_id   UUID,
+    departure_time    TIMESTAMP(6),
+    amount            FLOAT(53),
+    currency          VARCHAR(255)
+);
+
+CREATE INDEX change_event_unpublished_idx ON change_event (id) WHERE sequence IS NULL;
@@ -0,0 +1,44 @@
+-- Range-partitions flight by departure month, so searches for a date only scan that month's
+-- partition and past months can be detached without touching current data. Partitions are named
+-- flight_YYYY_MM; FlightPartitionMaintainer creates upcoming ones and retires past ones. Flights
+-- beyond the last created month land in flight_default until their month gets a partition.
+-- The primary key has to include the partition key.
+ALTER TABLE flight RENAME TO flight_unpartitioned;
+
+CREATE TABLE flight
+(
+    id                UUID           NOT NULL,
+    departure_port_id UUID           NOT NULL REFERENCES port (id),
+    arrival_port_id   UUID           NOT NULL REFERENCES port (id),
+    departure_time    TIMESTAMP(6)   NOT NULL,
+    amount            FLOAT(53)      NOT NULL,
+    currency          VARCHAR(255)   NOT NULL,
+    PRIMARY KEY (id, departure_time)
+) PARTITION BY RANGE (departure_time);
+
+CREATE TABLE flight_default PARTITION OF flight DEFAULT;
+
+DO
+$$
+    DECLARE
+        month DATE;
+    BEGIN
+        FOR month IN
+            SELECT generate_series(date_trunc('month', MIN(departure_time)), MAX(departure_time), INTERVAL '1 month')
+            FROM flight_unpartitioned
+            LOOP
+                EXECUTE format('CREATE TABLE %I PARTITION OF flight FOR VALUES FROM (%L) TO (%L)',
+                               'flight_' || to_char(month, 'YYYY_MM'), month, month + INTERVAL '1 month');
+            END LOOP;
+    END
+$$;
+
+INSERT INTO flight
+SELECT id, departure_port_id, arrival_port_id, departure_time, amount, currency
+FROM flight_unpartitioned;
+
+DROP TABLE flight_unpartitioned;
+
+-- Same indexes as before, created on every partition.
+CREATE INDEX flight_route_departure_time_idx ON flight (departure_port_id, arrival_port_id, departure_time);
+CREATE INDEX flight_departure_time_idx ON flight (departure_time);
@@ -0,0 +1,3 @@
+-- Serves the arrival side of connection scans (FlightRepository.findAllLeavingOrReachingBetween);
+-- the departure side is served by flight_route_departure_time_idx.
+CREATE INDEX flight_arrival_departure_time_idx ON flight (arrival_port_id, departure_time);
@@ -0,0 +1,123 @@
+package travel.infra;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import travel.infra.adapter.ChangeFeedAdapter;
+import travel.model.ChangeEvent;
+import travel.model.ChangeType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ChangeFeedAdapterTests {
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    ChangeFeedAdapter adapter;
+
+    List<ChangeEvent> published = LongStream.rangeClosed(1, 5)
+            .mapToObj(sequence -> ChangeEvent.builder()
+                    .sequence(sequence)
+                    .type(ChangeType.FLIGHT_CREATED)
+                    .createdAt(LocalDateTime.now())
+                    .build())
+            .toList();
+
+    List<Long> received = new ArrayList<>();
+
+    @BeforeEach
+    void init() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any())).thenReturn(false);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).thenAnswer(invocation -> {
+            long after = invocation.getArgument(2);
+            int limit = invocation.getArgument(3);
+
+            return published.stream()
+                    .filter(event -> event.getSequence() > after)
+                    .limit(limit)
+                    .toList();
+        });
+        adapter = new ChangeFeedAdapter(jdbcTemplate, transactionManager, Duration.ofSeconds(1), 2, Duration.ofDays(7), Duration.ofHours(1));
+    }
+
+    @Test
+    void givenEventsAfterSequenceInOrder_whenPublished() {
+        adapter.subscribe(1, event -> received.add(event.getSequence()));
+        adapter.subscribe(3, event -> {});
+
+        adapter.publish();
+
+        assertEquals(List.of(2L, 3L, 4L, 5L), received);
+    }
+
+    @Test
+    void givenEachEventOnce_whenPublishedAgain() {
+        adapter.subscribe(0, event -> received.add(event.getSequence()));
+
+        adapter.publish();
+        adapter.publish();
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), received);
+    }
+
+    @Test
+    void givenFailedEventDeliveredAgain_whenListenerThrows() {
+        var failing = new AtomicBoolean(true);
+
+        adapter.subscribe(0, event -> {
+            if (event.getSequence() == 2 && failing.getAndSet(false))
+                throw new IllegalStateException();
+
+            received.add(event.getSequence());
+        });
+
+        adapter.publish();
+
+        assertEquals(List.of(1L), received);
+
+        adapter.publish();
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), received);
+    }
+
+    @Test
+    void givenNoEvents_whenSubscriptionClosed() throws Exception {
+        adapter.subscribe(0, event -> received.add(event.getSequence())).close();
+
+        adapter.publish();
+
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void givenExpiredEventsDeletedInBatches_whenPruned() {
+        when(jdbcTemplate.update(startsWith("DELETE FROM change_event"), eq("PT168H"), eq(2))).thenReturn(2, 2, 1);
+
+        assertEquals(5, adapter.prune());
+        verify(jdbcTemplate, times(3)).update(startsWith("DELETE FROM change_event"), eq("PT168H"), eq(2));
+    }
+}
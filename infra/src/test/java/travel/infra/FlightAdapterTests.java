@@ -4,27 +4,51 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import travel.command.FlightCreationCommand;
+import travel.exception.FlightRejectedException;
+import travel.infra.adapter.ChangeFeedAdapter;
 import travel.infra.adapter.FlightAdapter;
+import travel.infra.adapter.FlightSearchCache;
+import travel.infra.adapter.PortRegistry;
 import travel.infra.entity.FlightEntity;
+import travel.infra.entity.FlightRow;
 import travel.infra.entity.PortEntity;
+import travel.infra.entity.RouteDaySummaryEntity;
+import travel.infra.repository.FlightJdbcRepository;
 import travel.infra.repository.FlightRepository;
 import travel.infra.repository.PortRepository;
+import travel.infra.repository.RouteDaySummaryRepository;
+import travel.model.ChangeEvent;
+import travel.model.ChangeType;
+import travel.model.Flight;
 import travel.port.FlightPort;
-import travel.query.OneWayFlightQuery;
+import travel.query.FlightPageToken;
+import travel.query.FlightSort;
+import travel.query.RouteDayQuery;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,8 +61,19 @@ public class FlightAdapterTests {
     @Mock
     PortRepository portRepository;
 
+    @Mock
+    RouteDaySummaryRepository routeDaySummaryRepository;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    ChangeFeedAdapter changeFeed;
+
     FlightPort adapter;
 
+    PortRegistry portRegistry;
+
     List<FlightEntity> flightEntities = new ArrayList<>();
 
     @BeforeEach
@@ -48,8 +83,10 @@ public class FlightAdapterTests {
         var entity = new FlightEntity();
 
         istanbul.setId(UUID.randomUUID());
+        istanbul.setCode(1);
         istanbul.setName("istanbul");
         ankara.setId(UUID.randomUUID());
+        ankara.setCode(2);
         ankara.setName("ankara");
         entity.setId(UUID.randomUUID());
         entity.setDeparture(istanbul);
@@ -58,13 +95,14 @@ public class FlightAdapterTests {
         entity.setAmount(199.9);
         entity.setCurrency("TL");
         flightEntities.add(entity);
-        adapter = new FlightAdapter(flightRepository, portRepository);
+        portRegistry = new PortRegistry(portRepository, Duration.ofSeconds(5));
+        adapter = new FlightAdapter(flightRepository, portRepository, routeDaySummaryRepository, portRegistry, new FlightSearchCache(100, Duration.ofMinutes(5)), new FlightJdbcRepository(jdbcTemplate), changeFeed);
 
-        when(flightRepository.findAllByOneWayQuery(
-                anyString(),
-                anyString(),
+        when(flightRepository.findAllByRoute(
+                any(UUID.class),
+                any(UUID.class),
                 any(LocalDateTime.class),
-                any(LocalDateTime.class))).thenReturn(flightEntities);
+                any(LocalDateTime.class))).thenReturn(rows(flightEntities));
         when(flightRepository.save(any(FlightEntity.class)))
                 .thenAnswer(invocation -> {
                     FlightEntity flightEntity = invocation.getArgument(0);
@@ -73,23 +111,25 @@ public class FlightAdapterTests {
 
                     return entity;
                 });
-        when(portRepository.findByName("istanbul")).thenReturn(istanbul);
-        when(portRepository.findByName("ankara")).thenReturn(ankara);
+        when(portRepository.findFirstByNameIgnoreCase("istanbul")).thenReturn(istanbul);
+        when(portRepository.findFirstByNameIgnoreCase("ankara")).thenReturn(ankara);
+        when(portRepository.getReferenceById(istanbul.getId())).thenReturn(istanbul);
+        when(portRepository.getReferenceById(ankara.getId())).thenReturn(ankara);
     }
 
     @Test
     void givenAllFlights_whenProperQuery() {
-        var query = OneWayFlightQuery.builder()
-                .departurePort("istanbul")
-                .arrivalPort("ankara")
+        var query = RouteDayQuery.builder()
+                .departure(portRegistry.find("istanbul"))
+                .arrival(portRegistry.find("ankara"))
                 .departureDate(LocalDate.now())
                 .build();
 
         var first = adapter.getAvailableFlights(query).get(0);
 
-        verify(flightRepository).findAllByOneWayQuery(
-                eq(query.getDeparturePort()),
-                eq(query.getArrivalPort()),
+        verify(flightRepository).findAllByRoute(
+                eq(flightEntities.get(0).getDeparture().getId()),
+                eq(flightEntities.get(0).getArrival().getId()),
                 eq(LocalDateTime.of(query.getDepartureDate(), LocalTime.MIDNIGHT)),
                 eq(query.getDepartureDate().atTime(LocalTime.MAX))
         );
@@ -100,6 +140,206 @@ public class FlightAdapterTests {
         Assertions.assertEquals(first.getCurrency(), "TL");
     }
 
+    @Test
+    void givenCachedFlights_whenSameRouteDayQueriedAgain() {
+        var day = LocalDate.now().plusDays(2);
+
+        adapter.getAvailableFlights(query("istanbul", "ankara", day));
+        adapter.getAvailableFlights(query("Istanbul", "ANKARA", day));
+
+        verify(flightRepository, times(1)).findAllByRoute(any(), any(), any(), any());
+    }
+
+    @Test
+    void givenReloadedFlights_whenFlightCreatedOnCachedRouteDay() {
+        var day = LocalDate.now().plusDays(2);
+        var query = query("istanbul", "ankara", day);
+
+        adapter.getAvailableFlights(query);
+        adapter.getAvailableFlights(query("ankara", "istanbul", day));
+        adapter.createFlight(FlightCreationCommand.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureTime(day.atTime(12, 0))
+                .amount(199.9)
+                .currency("TL")
+                .build());
+        adapter.getAvailableFlights(query);
+        adapter.getAvailableFlights(query("ankara", "istanbul", day));
+
+        verify(flightRepository, times(3)).findAllByRoute(any(), any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenReloadedFlights_whenFlightCreatedThroughAnotherInstance() {
+        var day = LocalDate.now().plusDays(2);
+        var query = query("istanbul", "ankara", day);
+        var listener = ArgumentCaptor.forClass(Consumer.class);
+
+        ((FlightAdapter) adapter).followChanges();
+        verify(changeFeed).subscribe(anyLong(), listener.capture());
+
+        var cached = adapter.getAvailableFlights(query);
+
+        listener.getValue().accept(ChangeEvent.builder()
+                .sequence(1)
+                .type(ChangeType.FLIGHT_CREATED)
+                .flight(Flight.builder()
+                        .departure(cached.get(0).getDeparture())
+                        .arrival(cached.get(0).getArrival())
+                        .departureTime(day.atTime(12, 0))
+                        .build())
+                .build());
+        adapter.getAvailableFlights(query);
+
+        verify(flightRepository, times(2)).findAllByRoute(any(), any(), any(), any());
+    }
+
+    @Test
+    void givenPageFromSeekQuery_whenSortLimitAndPageTokenPassed() {
+        var last = flightEntities.get(0).toModel();
+        var token = FlightPageToken.after(FlightSort.PRICE, last);
+        var query = RouteDayQuery.builder()
+                .departure(portRegistry.find("istanbul"))
+                .arrival(portRegistry.find("ankara"))
+                .departureDate(LocalDate.now())
+                .sort(FlightSort.PRICE)
+                .limit(20)
+                .pageToken(token.encode())
+                .build();
+
+        when(flightRepository.findPageByRouteAfterAmount(any(), any(), any(), any(), anyDouble(), any(), any()))
+                .thenReturn(rows(flightEntities));
+
+        var flights = adapter.getAvailableFlights(query);
+
+        verify(flightRepository).findPageByRouteAfterAmount(
+                eq(last.getDeparture().getId()),
+                eq(last.getArrival().getId()),
+                eq(LocalDateTime.of(query.getDepartureDate(), LocalTime.MIDNIGHT)),
+                eq(query.getDepartureDate().atTime(LocalTime.MAX)),
+                eq(last.getAmount()),
+                eq(last.getId()),
+                eq(PageRequest.ofSize(20))
+        );
+        verify(flightRepository, never()).findAllByRoute(any(), any(), any(), any());
+        Assertions.assertEquals(1, flights.size());
+    }
+
+    @Test
+    void givenFirstPageOrderedByDepartureTime_whenOnlyLimitPassed() {
+        var query = RouteDayQuery.builder()
+                .departure(portRegistry.find("istanbul"))
+                .arrival(portRegistry.find("ankara"))
+                .departureDate(LocalDate.now())
+                .limit(20)
+                .build();
+
+        adapter.getAvailableFlights(query);
+
+        verify(flightRepository).findPageByRouteOrderByDepartureTime(any(), any(), any(), any(), eq(PageRequest.ofSize(20)));
+    }
+
+    @Test
+    void givenFlightsStreamed_whenProperQuery() {
+        when(flightRepository.streamAllByRoute(any(UUID.class), any(UUID.class), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> rows(flightEntities).stream());
+
+        var query = RouteDayQuery.builder()
+                .departure(portRegistry.find("istanbul"))
+                .arrival(portRegistry.find("ankara"))
+                .departureDate(LocalDate.now())
+                .build();
+
+        try (var flights = adapter.streamAvailableFlights(query)) {
+            var list = flights.toList();
+
+            Assertions.assertEquals(1, list.size());
+            Assertions.assertEquals(flightEntities.get(0).getId(), list.get(0).getId());
+        }
+
+        verify(flightRepository, never()).findAllByRoute(any(), any(), any(), any());
+    }
+
+    @Test
+    void givenAllFlightsFromOneRangeQuery_whenDateRangePassed() {
+        var from = LocalDate.now().plusDays(1);
+        var to = LocalDate.now().plusDays(7);
+
+        var flights = adapter.getAvailableFlightsBetween(portRegistry.find("istanbul"), portRegistry.find("ankara"), from, to);
+
+        verify(flightRepository).findAllByRoute(
+                eq(flightEntities.get(0).getDeparture().getId()),
+                eq(flightEntities.get(0).getArrival().getId()),
+                eq(LocalDateTime.of(from, LocalTime.MIDNIGHT)),
+                eq(to.atTime(LocalTime.MAX))
+        );
+        Assertions.assertEquals(1, flights.size());
+    }
+
+    @Test
+    void givenBothLegsFromOneQuery_whenRoundTripQueryPassed() {
+        var outbound = flightEntities.get(0);
+        var inbound = new FlightEntity();
+
+        inbound.setId(UUID.randomUUID());
+        inbound.setDeparture(outbound.getArrival());
+        inbound.setArrival(outbound.getDeparture());
+        inbound.setDepartureTime(LocalDateTime.now().plusDays(5));
+        inbound.setAmount(249.9);
+        inbound.setCurrency("TL");
+        when(flightRepository.findAllByRoundTrip(any(), any(), any(), any(), any(), any()))
+                .thenReturn(rows(List.of(outbound, inbound)));
+
+        var departureQuery = query("istanbul", "ankara", LocalDate.now().plusDays(2));
+        var returnQuery = query("ankara", "istanbul", LocalDate.now().plusDays(5));
+
+        var flights = adapter.getRoundTripFlights(departureQuery, returnQuery);
+
+        verify(flightRepository).findAllByRoundTrip(
+                eq(outbound.getDeparture().getId()),
+                eq(outbound.getArrival().getId()),
+                eq(LocalDateTime.of(departureQuery.getDepartureDate(), LocalTime.MIDNIGHT)),
+                eq(departureQuery.getDepartureDate().atTime(LocalTime.MAX)),
+                eq(LocalDateTime.of(returnQuery.getDepartureDate(), LocalTime.MIDNIGHT)),
+                eq(returnQuery.getDepartureDate().atTime(LocalTime.MAX))
+        );
+        verify(flightRepository, never()).findAllByRoute(any(), any(), any(), any());
+        Assertions.assertEquals(1, flights.getDepartureFlights().size());
+        Assertions.assertEquals(1, flights.getReturnFlights().size());
+        Assertions.assertEquals(outbound.getId(), flights.getDepartureFlights().get(0).getId());
+        Assertions.assertEquals(inbound.getId(), flights.getReturnFlights().get(0).getId());
+        Assertions.assertEquals("ankara", flights.getReturnFlights().get(0).getDeparture().getName());
+    }
+
+    @Test
+    void givenSharedPorts_whenUpcomingFlightsLoaded() {
+        var first = flightEntities.get(0);
+        var second = new FlightEntity();
+        var departure = new PortEntity();
+
+        departure.setId(first.getDeparture().getId());
+        departure.setName(first.getDeparture().getName());
+        second.setId(UUID.randomUUID());
+        second.setDeparture(departure);
+        second.setArrival(first.getArrival());
+        second.setDepartureTime(first.getDepartureTime().plusHours(1));
+        second.setAmount(249.9);
+        second.setCurrency("TL");
+        when(flightRepository.findAllByDepartureTimeGreaterThanEqual(any())).thenReturn(List.of(first, second));
+
+        var flights = ((FlightAdapter) adapter).getUpcomingFlights(LocalDateTime.now());
+
+        Assertions.assertSame(flights.get(0).getDeparture(), flights.get(1).getDeparture());
+        Assertions.assertSame(flights.get(0).getArrival(), flights.get(1).getArrival());
+        Assertions.assertSame(adapter.getAvailableFlights(RouteDayQuery.builder()
+                .departure(portRegistry.find("istanbul"))
+                .arrival(portRegistry.find("ankara"))
+                .departureDate(LocalDate.now())
+                .build()).get(0).getDeparture(), flights.get(0).getDeparture());
+    }
+
     @Test
     void givenFlight_whenCreating() {
         var command = FlightCreationCommand.builder()
@@ -118,4 +358,174 @@ public class FlightAdapterTests {
         Assertions.assertEquals(flight.getAmount(), command.getAmount());
         Assertions.assertEquals(flight.getCurrency(), command.getCurrency());
     }
+
+    @Test
+    void givenFlightsInsertedInOneBatch_whenCreatingMany() {
+        var command = FlightCreationCommand.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureTime(LocalDateTime.now().plusDays(10))
+                .amount(199.9)
+                .currency("TL")
+                .build();
+
+        var flights = adapter.createFlights(List.of(command, command, command));
+
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(flights), anyInt(), any());
+        verify(changeFeed).recordFlightsCreated(flights);
+        verify(flightRepository, never()).save(any(FlightEntity.class));
+        verify(portRepository, times(1)).findFirstByNameIgnoreCase("istanbul");
+        Assertions.assertEquals(3, flights.size());
+        Assertions.assertEquals(3, flights.stream().map(Flight::getId).distinct().count());
+        Assertions.assertEquals("ankara", flights.get(0).getArrival().getName());
+    }
+
+    @Test
+    void throwsFlightRejectedException_whenDatabaseRejectsBatch() {
+        var command = FlightCreationCommand.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureTime(LocalDateTime.now().plusDays(10))
+                .amount(199.9)
+                .currency("TL")
+                .build();
+
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO flight "), anyList(), anyInt(), any()))
+                .thenThrow(new DataIntegrityViolationException("flight_amount_check"));
+
+        Assertions.assertThrows(FlightRejectedException.class, () -> adapter.createFlights(List.of(command)));
+        verify(changeFeed, never()).recordFlightsCreated(any());
+    }
+
+    @Test
+    void givenRouteDaySummaryUpserted_whenCreating() {
+        var departureTime = LocalDateTime.now().plusDays(10);
+
+        adapter.createFlight(FlightCreationCommand.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureTime(departureTime)
+                .amount(199.9)
+                .currency("TL")
+                .build());
+
+        var rows = summaryRows();
+
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertArrayEquals(new Object[]{
+                flightEntities.get(0).getDeparture().getId(),
+                flightEntities.get(0).getArrival().getId(),
+                departureTime.toLocalDate(),
+                "TL",
+                1,
+                199.9,
+                199.9,
+                departureTime
+        }, rows.get(0));
+    }
+
+    @Test
+    void givenOneSummaryRowPerRouteDayAndCurrency_whenCreatingMany() {
+        var day = LocalDate.now().plusDays(10);
+        var command = FlightCreationCommand.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .currency("TL");
+
+        adapter.createFlights(List.of(
+                command.departureTime(day.atTime(18, 0)).amount(299.9).build(),
+                command.departureTime(day.atTime(9, 0)).amount(399.9).build(),
+                command.departureTime(day.atTime(12, 0)).amount(99.9).build(),
+                command.departureTime(day.atTime(7, 0)).amount(49.9).currency("EUR").build()
+        ));
+
+        var rows = summaryRows();
+
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertArrayEquals(new Object[]{"EUR", 1, 49.9, 49.9, day.atTime(7, 0)}, Arrays.copyOfRange(rows.get(0), 3, 8));
+        Assertions.assertArrayEquals(new Object[]{"TL", 3, 99.9, 399.9, day.atTime(9, 0)}, Arrays.copyOfRange(rows.get(1), 3, 8));
+    }
+
+    @Test
+    void givenSummariesFromAggregates_whenRouteDaySummariesQueried() {
+        var day = LocalDate.now().plusDays(10);
+        var summary = new RouteDaySummaryEntity();
+
+        summary.setDepartureId(flightEntities.get(0).getDeparture().getId());
+        summary.setArrivalId(flightEntities.get(0).getArrival().getId());
+        summary.setDepartureDate(day);
+        summary.setCurrency("TL");
+        summary.setFlightCount(12);
+        summary.setMinAmount(99.9);
+        summary.setMaxAmount(499.9);
+        summary.setEarliestDepartureTime(day.atTime(6, 0));
+        when(routeDaySummaryRepository.findAllByRoute(summary.getDepartureId(), summary.getArrivalId(), day, day.plusDays(30)))
+                .thenReturn(List.of(summary));
+
+        var summaries = adapter.getRouteDaySummaries(portRegistry.find("istanbul"), portRegistry.find("ankara"), day, day.plusDays(30));
+
+        verify(flightRepository, never()).findAllByRoute(any(), any(), any(), any());
+        Assertions.assertEquals(List.of(summary.toModel()), summaries);
+        Assertions.assertEquals(12, summaries.get(0).getFlightCount());
+    }
+
+    @Test
+    void givenRouteDaysReadInOneStatement_whenManyQueried() {
+        var day = LocalDate.now().plusDays(2);
+        var query = query("istanbul", "ankara", day);
+        var other = query("ankara", "istanbul", day);
+
+        adapter.getAvailableFlights(query);
+
+        var flights = adapter.getAvailableFlightsOfAll(List.of(other, query, other));
+
+        verify(flightRepository, times(1)).findAllByRoute(any(), any(), any(), any());
+        verify(jdbcTemplate, times(1)).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        Assertions.assertEquals(3, flights.size());
+        Assertions.assertEquals(1, flights.get(1).size());
+        Assertions.assertEquals(flightEntities.get(0).getId(), flights.get(1).get(0).getId());
+        Assertions.assertTrue(flights.get(2).isEmpty());
+    }
+
+    @Test
+    void givenNoStatement_whenEveryRouteDayCached() {
+        var day = LocalDate.now().plusDays(2);
+        var query = query("istanbul", "ankara", day);
+
+        adapter.getAvailableFlights(query);
+        adapter.getAvailableFlightsOfAll(List.of(query, query));
+
+        verify(jdbcTemplate, never()).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    /**
+     * Resolves the names the way the handlers do before calling the adapter.
+     */
+    private RouteDayQuery query(String departure, String arrival, LocalDate day) {
+        return RouteDayQuery.builder()
+                .departure(portRegistry.find(departure))
+                .arrival(portRegistry.find(arrival))
+                .departureDate(day)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> summaryRows() {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO route_day_summary"), rows.capture());
+        return rows.getValue();
+    }
+
+    private static List<FlightRow> rows(List<FlightEntity> flightEntities) {
+        return flightEntities.stream()
+                .map(entity -> new FlightRow(
+                        entity.getId(),
+                        entity.getDeparture().getId(),
+                        entity.getArrival().getId(),
+                        entity.getDepartureTime(),
+                        entity.getAmount(),
+                        entity.getCurrency()))
+                .toList();
+    }
 }
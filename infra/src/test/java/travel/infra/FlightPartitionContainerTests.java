@@ -0,0 +1,112 @@
+package travel.infra;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import travel.command.FlightCreationCommand;
+import travel.command.PortCreationCommand;
+import travel.infra.partition.FlightPartitionMaintainer;
+import travel.port.FlightPort;
+import travel.port.PortPort;
+import travel.query.RouteDayQuery;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "flight-search.partitions.months-ahead=1",
+        "flight-search.partitions.maintenance-interval=1d"
+})
+@Testcontainers(disabledWithoutDocker = true)
+public class FlightPartitionContainerTests {
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'flight_'yyyy_MM");
+
+    @Container
+    static GenericContainer<?> postgres = new GenericContainer<>("postgres:15-alpine")
+            .withEnv("POSTGRES_PASSWORD", "postgres")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    FlightPort flightPort;
+
+    @Autowired
+    PortPort portPort;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:postgresql://%s:%d/postgres?reWriteBatchedInserts=true"
+                .formatted(postgres.getHost(), postgres.getMappedPort(5432)));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @Test
+    void givenFlightsFoundInNewPartition_whenPartitionsMaintained() {
+        var current = YearMonth.now();
+        var upcoming = current.plusMonths(3);
+        var past = current.minusMonths(1);
+        var day = upcoming.atDay(10);
+
+        assertEquals(List.of("1", "2", "3", "4", "5", "6", "7"), jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success AND version IS NOT NULL ORDER BY installed_rank", String.class));
+
+        jdbcTemplate.execute("CREATE TABLE %s PARTITION OF flight FOR VALUES FROM ('%s') TO ('%s')"
+                .formatted(PARTITION_NAME.format(past), past.atDay(1), current.atDay(1)));
+        var istanbul = portPort.createPort(PortCreationCommand.builder().name("istanbul").build());
+        var ankara = portPort.createPort(PortCreationCommand.builder().name("ankara").build());
+        flightPort.createFlight(FlightCreationCommand.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureTime(day.atTime(9, 30))
+                .amount(199.9)
+                .currency("TL")
+                .build());
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM flight_default", Integer.class));
+
+        new FlightPartitionMaintainer(jdbcTemplate, transactionManager, 3, false, Clock.systemDefaultZone()).maintain();
+
+        var partitions = jdbcTemplate.queryForList(
+                "SELECT C.relname FROM pg_inherits AS I JOIN pg_class AS C ON C.oid = I.inhrelid WHERE I.inhparent = 'flight'::regclass", String.class);
+
+        assertTrue(partitions.contains(PARTITION_NAME.format(upcoming)));
+        assertFalse(partitions.contains(PARTITION_NAME.format(past)));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM flight_default", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + PARTITION_NAME.format(upcoming), Integer.class));
+
+        var query = RouteDayQuery.builder()
+                .departure(istanbul)
+                .arrival(ankara)
+                .departureDate(day)
+                .build();
+        var nextDay = RouteDayQuery.builder()
+                .departure(istanbul)
+                .arrival(ankara)
+                .departureDate(day.plusDays(1))
+                .build();
+        var flights = flightPort.getAvailableFlightsOfAll(List.of(query, nextDay));
+
+        assertEquals(1, flights.get(0).size());
+        assertTrue(flights.get(1).isEmpty());
+        assertEquals(1, flightPort.getAvailableFlights(query).size());
+    }
+}
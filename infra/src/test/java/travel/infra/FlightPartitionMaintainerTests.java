@@ -0,0 +1,145 @@
+package travel.infra;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import travel.infra.partition.FlightPartitionMaintainer;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class FlightPartitionMaintainerTests {
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'flight_'yyyy_MM");
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    Clock clock = Clock.fixed(Instant.parse("2026-03-15T10:00:00Z"), ZoneOffset.UTC);
+
+    YearMonth current = YearMonth.now(clock);
+
+    List<String> partitions = new ArrayList<>();
+
+    List<String> pending = new ArrayList<>();
+
+    @BeforeEach
+    void init() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any())).thenReturn(true);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT partdefid"), eq(Boolean.class))).thenReturn(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(partitions);
+        when(jdbcTemplate.queryForList(endsWith("inhdetachpending"), eq(String.class))).thenReturn(pending);
+    }
+
+    @Test
+    void givenMissingMonthsCreated_whenMaintained() {
+        partitions.addAll(List.of("flight_default", name(current), name(current.plusMonths(1))));
+
+        maintainer(2, false).maintain();
+
+        var statements = statements();
+        var month = current.plusMonths(2);
+
+        assertEquals(List.of(
+                "CREATE TABLE " + name(month) + " (LIKE flight INCLUDING DEFAULTS)",
+                "WITH moved AS (DELETE FROM flight_default WHERE departure_time >= '" + month.atDay(1).atStartOfDay()
+                        + "' AND departure_time < '" + month.plusMonths(1).atDay(1).atStartOfDay()
+                        + "' RETURNING *) INSERT INTO " + name(month) + " SELECT * FROM moved",
+                "ALTER TABLE flight ATTACH PARTITION " + name(month) + " FOR VALUES FROM ('" + month.atDay(1).atStartOfDay()
+                        + "') TO ('" + month.plusMonths(1).atDay(1).atStartOfDay() + "')"
+        ), statements);
+    }
+
+    @Test
+    void givenPastMonthsDetachedOneTransactionEach_whenDefaultPartitionExists() {
+        partitions.addAll(List.of("flight_default", name(current.minusMonths(1)), name(current.minusMonths(13)), name(current)));
+
+        maintainer(0, false).maintain();
+
+        assertEquals(List.of(
+                "SET LOCAL lock_timeout = '1s'",
+                "ALTER TABLE flight DETACH PARTITION " + name(current.minusMonths(13)),
+                "SET LOCAL lock_timeout = '1s'",
+                "ALTER TABLE flight DETACH PARTITION " + name(current.minusMonths(1))
+        ), statements());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void givenPastMonthsDetachedConcurrently_whenNoDefaultPartition() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT partdefid"), eq(Boolean.class))).thenReturn(false);
+        partitions.addAll(List.of(name(current.minusMonths(2)), name(current.minusMonths(1)), name(current)));
+        pending.add(name(current.minusMonths(2)));
+
+        maintainer(0, true).maintain();
+
+        assertEquals(List.of(
+                "ALTER TABLE flight DETACH PARTITION " + name(current.minusMonths(2)) + " FINALIZE",
+                "DROP TABLE " + name(current.minusMonths(2)),
+                "ALTER TABLE flight DETACH PARTITION " + name(current.minusMonths(1)) + " CONCURRENTLY",
+                "DROP TABLE " + name(current.minusMonths(1))
+        ), statements());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void givenMonthDecidedByClockZone_whenMaintained() {
+        var clock = Clock.fixed(Instant.parse("2026-03-31T23:00:00Z"), ZoneId.of("Europe/Istanbul"));
+
+        partitions.addAll(List.of("flight_default", "flight_2026_03", "flight_2026_04"));
+
+        new FlightPartitionMaintainer(jdbcTemplate, transactionManager, 0, false, clock).maintain();
+
+        assertTrue(statements().contains("ALTER TABLE flight DETACH PARTITION flight_2026_03"));
+    }
+
+    @Test
+    void givenNothingChanged_whenAnotherInstanceMaintains() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any())).thenReturn(false);
+
+        maintainer(12, true).maintain();
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private FlightPartitionMaintainer maintainer(int monthsAhead, boolean dropRetired) {
+        return new FlightPartitionMaintainer(jdbcTemplate, transactionManager, monthsAhead, dropRetired, clock);
+    }
+
+    private List<String> statements() {
+        var statements = ArgumentCaptor.forClass(String.class);
+
+        verify(jdbcTemplate, atLeast(0)).execute(statements.capture());
+        return statements.getAllValues();
+    }
+
+    private static String name(YearMonth month) {
+        return PARTITION_NAME.format(month);
+    }
+}
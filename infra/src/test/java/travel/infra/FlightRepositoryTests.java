@@ -1,56 +1,184 @@
 package travel.infra;
 
-import org.junit.Test;
-import org.junit.jupiter.api.Assertions;
-import org.junit.runner.RunWith;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
 import travel.infra.entity.FlightEntity;
+import travel.infra.entity.FlightRow;
 import travel.infra.entity.PortEntity;
+import travel.infra.repository.FlightJdbcRepository;
 import travel.infra.repository.FlightRepository;
 import travel.infra.repository.PortRepository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
-@RunWith(SpringRunner.class)
+import static org.junit.jupiter.api.Assertions.*;
+
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(FlightJdbcRepository.class)
+@Testcontainers(disabledWithoutDocker = true)
 public class FlightRepositoryTests {
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'flight_'yyyy_MM");
+
+    @Container
+    static GenericContainer<?> postgres = new GenericContainer<>("postgres:15-alpine")
+            .withEnv("POSTGRES_PASSWORD", "postgres")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
     @Autowired
     PortRepository portRepository;
 
     @Autowired
     FlightRepository flightRepository;
 
+    @Autowired
+    FlightJdbcRepository flightJdbcRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    LocalDate day = LocalDate.now().plusMonths(1).withDayOfMonth(10);
+
+    PortEntity istanbul;
+
+    PortEntity ankara;
+
+    FlightEntity morning;
+
+    FlightEntity noon;
+
+    FlightEntity evening;
+
+    FlightEntity back;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:postgresql://%s:%d/postgres?reWriteBatchedInserts=true"
+                .formatted(postgres.getHost(), postgres.getMappedPort(5432)));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @BeforeEach
+    void init() {
+        // Each test runs in a transaction that is rolled back, partitions included.
+        for (var month = YearMonth.from(day).minusMonths(1); !month.isAfter(YearMonth.from(day).plusMonths(1)); month = month.plusMonths(1))
+            jdbcTemplate.execute("CREATE TABLE %s PARTITION OF flight FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(PARTITION_NAME.format(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+
+        istanbul = port("istanbul");
+        ankara = port("ankara");
+        portRepository.saveAllAndFlush(List.of(istanbul, ankara));
+        morning = flight(istanbul, ankara, day.atTime(9, 0), 299.9);
+        noon = flight(istanbul, ankara, day.atTime(12, 0), 99.9);
+        evening = flight(istanbul, ankara, day.atTime(18, 0), 199.9);
+        back = flight(ankara, istanbul, day.atTime(20, 0), 149.9);
+        flightRepository.saveAllAndFlush(List.of(
+                morning, noon, evening, back,
+                flight(istanbul, ankara, day.plusDays(1).atTime(9, 0), 99.9)));
+    }
+
     @Test
-    public void doesAddsToTable() {
-        PortEntity istanbul = new PortEntity();
-        PortEntity ankara = new PortEntity();
-        FlightEntity flight = new FlightEntity();
-
-        istanbul.setName("istanbul");
-        ankara.setName("ankara");
-        portRepository.saveAll(List.of(istanbul, ankara));
-        portRepository.flush();
-
-        istanbul = portRepository.findByName("istanbul");
-        ankara = portRepository.findByName("ankara");
-
-        flight.setDeparture(istanbul);
-        flight.setArrival(ankara);
-        flight.setDepartureTime(LocalDateTime.now().plusDays(10));
-        flight.setAmount(199.9);
-        flight.setCurrency("TL");
+    void givenRouteDayFlightsInDepartureOrder_whenFoundByRoute() {
+        var rows = flightRepository.findAllByRoute(istanbul.getId(), ankara.getId(), day.atStartOfDay(), day.atTime(LocalTime.MAX));
+
+        assertEquals(List.of(morning.getId(), noon.getId(), evening.getId()), rows.stream().map(FlightRow::getId).toList());
+        assertEquals(3, flightRepository.findAllByOneWayQuery("istanbul", "ankara", day.atStartOfDay(), day.atTime(LocalTime.MAX)).size());
+    }
 
-        flightRepository.save(flight);
-        flightRepository.flush();
+    @Test
+    void givenNextPage_whenPagedAfterDepartureTime() {
+        var first = flightRepository.findPageByRouteOrderByDepartureTime(istanbul.getId(), ankara.getId(),
+                day.atStartOfDay(), day.atTime(LocalTime.MAX), PageRequest.ofSize(2));
+        var last = first.get(first.size() - 1);
+        var second = flightRepository.findPageByRouteAfterDepartureTime(istanbul.getId(), ankara.getId(),
+                day.atStartOfDay(), day.atTime(LocalTime.MAX), last.getDepartureTime(), last.getId(), PageRequest.ofSize(2));
 
-        Assertions.assertEquals(flightRepository.findAllByOneWayQuery("istanbul", "ankara",
-                LocalDateTime.of(flight.getDepartureTime().toLocalDate(), LocalTime.MIDNIGHT),
-                flight.getDepartureTime().toLocalDate().atTime(LocalTime.MAX)).size(), 1);
+        assertEquals(List.of(morning.getId(), noon.getId()), first.stream().map(FlightRow::getId).toList());
+        assertEquals(List.of(evening.getId()), second.stream().map(FlightRow::getId).toList());
+    }
+
+    @Test
+    void givenNextPage_whenPagedAfterAmount() {
+        var first = flightRepository.findPageByRouteOrderByAmount(istanbul.getId(), ankara.getId(),
+                day.atStartOfDay(), day.atTime(LocalTime.MAX), PageRequest.ofSize(2));
+        var last = first.get(first.size() - 1);
+        var second = flightRepository.findPageByRouteAfterAmount(istanbul.getId(), ankara.getId(),
+                day.atStartOfDay(), day.atTime(LocalTime.MAX), last.getAmount(), last.getId(), PageRequest.ofSize(2));
+
+        assertEquals(List.of(noon.getId(), evening.getId()), first.stream().map(FlightRow::getId).toList());
+        assertEquals(List.of(morning.getId()), second.stream().map(FlightRow::getId).toList());
+    }
+
+    @Test
+    void givenEveryRouteDayInDepartureOrder_whenReadByRouteDays() {
+        var rows = flightJdbcRepository.findAllByRouteDays(
+                List.of(istanbul.getId(), ankara.getId()),
+                List.of(ankara.getId(), istanbul.getId()),
+                List.of(day, day));
+
+        assertEquals(List.of(morning.getId(), noon.getId(), evening.getId(), back.getId()), rows.stream().map(FlightRow::getId).toList());
+    }
+
+    @Test
+    void givenOnlyMonthPartitionScanned_whenRouteDayQueried() {
+        var partition = PARTITION_NAME.format(day);
+
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        var route = plan("EXPLAIN SELECT id FROM flight WHERE departure_port_id = ? AND arrival_port_id = ? AND departure_time >= ? AND departure_time <= ? ORDER BY departure_time",
+                istanbul.getId(), ankara.getId(), day.atStartOfDay(), day.atTime(LocalTime.MAX));
+        var routeDays = plan("EXPLAIN SELECT F.id FROM unnest(CAST(? AS UUID[]), CAST(? AS UUID[]), CAST(? AS DATE[])) AS R(departure_port_id, arrival_port_id, departure_date) JOIN flight AS F ON F.departure_port_id = R.departure_port_id AND F.arrival_port_id = R.arrival_port_id AND F.departure_time >= R.departure_date AND F.departure_time < R.departure_date + 1 WHERE F.departure_time >= ? AND F.departure_time < ?",
+                "{" + istanbul.getId() + "}", "{" + ankara.getId() + "}", "{" + day + "}", day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+
+        assertTrue(route.contains(partition), route);
+        assertTrue(route.contains("Index"), route);
+        assertTrue(routeDays.contains(partition), routeDays);
+
+        for (var plan : List.of(route, routeDays)) {
+            assertFalse(plan.contains(PARTITION_NAME.format(day.minusMonths(1))), plan);
+            assertFalse(plan.contains(PARTITION_NAME.format(day.plusMonths(1))), plan);
+            assertFalse(plan.contains("flight_default"), plan);
+        }
+    }
+
+    private String plan(String sql, Object... parameters) {
+        return String.join("\n", jdbcTemplate.queryForList(sql, String.class, parameters));
+    }
+
+    private static PortEntity port(String name) {
+        var port = new PortEntity();
+
+        port.setName(name);
+        return port;
+    }
+
+    private static FlightEntity flight(PortEntity departure, PortEntity arrival, LocalDateTime departureTime, double amount) {
+        var flight = new FlightEntity();
+
+        flight.setDeparture(departure);
+        flight.setArrival(arrival);
+        flight.setDepartureTime(departureTime);
+        flight.setAmount(amount);
+        flight.setCurrency("TL");
+        return flight;
     }
-}
\ No newline at end of file
+}
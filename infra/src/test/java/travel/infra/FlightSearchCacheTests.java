@@ -0,0 +1,64 @@
+package travel.infra;
+
+import org.junit.jupiter.api.Test;
+import travel.infra.adapter.FlightSearchCache;
+import travel.infra.timetable.RouteDay;
+import travel.model.Flight;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightSearchCacheTests {
+    RouteDay routeDay = new RouteDay(1, 2, LocalDate.now().plusDays(1));
+
+    AtomicInteger loads = new AtomicInteger();
+
+    Function<RouteDay, List<Flight>> loader = key -> {
+        loads.incrementAndGet();
+        return List.of(Flight.builder().build());
+    };
+
+    @Test
+    void givenStatsWithHitsAndMisses_whenRouteDayQueriedTwice() {
+        var cache = new FlightSearchCache(10, Duration.ofMinutes(5));
+
+        cache.get(routeDay, loader);
+        cache.get(new RouteDay(1, 2, routeDay.getDay()), loader);
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().hitCount());
+        assertEquals(1, cache.getStats().missCount());
+        assertEquals(0.5, cache.getStats().hitRate());
+        assertEquals(1, cache.getStats().loadSuccessCount());
+    }
+
+    @Test
+    void givenLoad_whenRouteDayInvalidated() {
+        var cache = new FlightSearchCache(10, Duration.ofMinutes(5));
+        var otherRouteDay = new RouteDay(2, 1, routeDay.getDay());
+
+        cache.get(routeDay, loader);
+        cache.get(otherRouteDay, loader);
+        cache.invalidate(routeDay);
+        cache.get(routeDay, loader);
+        cache.get(otherRouteDay, loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void givenLoadEveryTime_whenCacheDisabled() {
+        var cache = new FlightSearchCache(0, Duration.ofMinutes(5));
+
+        cache.get(routeDay, loader);
+        cache.get(routeDay, loader);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.getSize());
+    }
+}
@@ -0,0 +1,161 @@
+package travel.infra;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import travel.command.FlightCreationCommand;
+import travel.infra.adapter.FlightQueueFullException;
+import travel.infra.adapter.FlightWriteBehindQueue;
+import travel.model.Flight;
+import travel.port.FlightPort;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class FlightWriteBehindQueueTests {
+    @Mock
+    FlightPort flightPort;
+
+    FlightWriteBehindQueue queue;
+
+    LocalDateTime departureTime = LocalDateTime.now().plusDays(3);
+
+    @BeforeEach
+    void init() {
+        when(flightPort.createFlights(anyList())).thenAnswer(invocation -> {
+            List<FlightCreationCommand> commands = invocation.getArgument(0);
+
+            if (commands.stream().anyMatch(command -> command.getCurrency() == null))
+                throw new DataIntegrityViolationException("currency can not be null");
+
+            return commands.stream()
+                    .map(command -> Flight.builder()
+                            .id(UUID.randomUUID())
+                            .departureTime(command.getDepartureTime())
+                            .amount(command.getAmount())
+                            .currency(command.getCurrency())
+                            .build())
+                    .toList();
+        });
+        queue = new FlightWriteBehindQueue(flightPort, 3, 100, Duration.ZERO);
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        queue.stop();
+    }
+
+    @Test
+    void givenOneGroup_whenFlightsQueuedBeforeWriterRuns() throws Exception {
+        var first = queue.enqueue(command(100, "TL"));
+        var second = queue.enqueue(command(200, "TL"));
+        var third = queue.enqueue(command(300, "TL"));
+
+        queue.start();
+
+        assertEquals(100, first.get(5, TimeUnit.SECONDS).getAmount());
+        assertEquals(200, second.get(5, TimeUnit.SECONDS).getAmount());
+        assertEquals(300, third.get(5, TimeUnit.SECONDS).getAmount());
+        verify(flightPort, times(1)).createFlights(anyList());
+        assertEquals(1, queue.getGroupCount());
+    }
+
+    @Test
+    void throwsFlightQueueFullException_whenQueueIsFull() {
+        queue.enqueue(command(100, "TL"));
+        queue.enqueue(command(200, "TL"));
+        queue.enqueue(command(300, "TL"));
+
+        assertThrows(FlightQueueFullException.class, () -> queue.enqueue(command(400, "TL")));
+        assertEquals(3, queue.getQueueSize());
+    }
+
+    @Test
+    void givenOnlyBadFlightFailed_whenGroupFails() throws Exception {
+        var good = queue.enqueue(command(100, "TL"));
+        var bad = queue.enqueue(command(200, null));
+
+        queue.start();
+
+        assertEquals(100, good.get(5, TimeUnit.SECONDS).getAmount());
+        assertInstanceOf(DataIntegrityViolationException.class,
+                assertThrows(ExecutionException.class, () -> bad.get(5, TimeUnit.SECONDS)).getCause());
+        verify(flightPort, times(3)).createFlights(anyList());
+        verify(flightPort).createFlights(argThat(commands -> commands.size() == 2));
+    }
+
+    @Test
+    void givenWholeGroupFailed_whenDatabaseUnavailable() {
+        when(flightPort.createFlights(anyList())).thenThrow(new CannotCreateTransactionException("database unavailable"));
+
+        var first = queue.enqueue(command(100, "TL"));
+        var second = queue.enqueue(command(200, "TL"));
+
+        queue.start();
+
+        assertInstanceOf(CannotCreateTransactionException.class,
+                assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS)).getCause());
+        assertInstanceOf(CannotCreateTransactionException.class,
+                assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS)).getCause());
+        verify(flightPort, times(1)).createFlights(anyList());
+    }
+
+    @Test
+    void givenWholeGroupFailed_whenUnexpectedIllegalArgumentExceptionThrown() throws Exception {
+        when(flightPort.createFlights(anyList()))
+                .thenThrow(new IllegalArgumentException("bug"))
+                .thenReturn(List.of(Flight.builder().amount(300).build()));
+
+        var first = queue.enqueue(command(100, "TL"));
+        var second = queue.enqueue(command(200, "TL"));
+
+        queue.start();
+
+        assertInstanceOf(IllegalArgumentException.class,
+                assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS)).getCause());
+        assertInstanceOf(IllegalArgumentException.class,
+                assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS)).getCause());
+        assertEquals(300, queue.enqueue(command(300, "TL")).get(5, TimeUnit.SECONDS).getAmount());
+        verify(flightPort, times(2)).createFlights(anyList());
+    }
+
+    @Test
+    void givenQueuedFlightsWritten_whenStopped() throws Exception {
+        var flight = queue.enqueue(command(100, "TL"));
+
+        queue.start();
+        queue.stop();
+
+        assertTrue(flight.isDone());
+        assertEquals(100, flight.get().getAmount());
+        assertThrows(FlightQueueFullException.class, () -> queue.enqueue(command(200, "TL")));
+    }
+
+    private FlightCreationCommand command(double amount, String currency) {
+        return FlightCreationCommand.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureTime(departureTime)
+                .amount(amount)
+                .currency(currency)
+                .build();
+    }
+}
@@ -8,12 +8,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import travel.command.PortCreationCommand;
+import travel.infra.adapter.ChangeFeedAdapter;
 import travel.infra.adapter.PortAdapter;
+import travel.infra.adapter.PortRegistry;
 import travel.infra.entity.PortEntity;
 import travel.infra.repository.PortRepository;
 import travel.port.PortPort;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,19 +31,25 @@ public class PortAdapterTests {
     @Mock
     PortRepository portRepository;
 
+    @Mock
+    ChangeFeedAdapter changeFeed;
+
+    PortRegistry portRegistry;
+
     PortPort adapter;
 
     PortEntity istanbul = new PortEntity();
 
     @BeforeEach
     void init() {
-        adapter = new PortAdapter(portRepository);
+        portRegistry = new PortRegistry(portRepository, Duration.ofSeconds(5));
+        adapter = new PortAdapter(portRepository, portRegistry, changeFeed);
 
         istanbul.setId(UUID.randomUUID());
         istanbul.setName("istanbul");
-        when(portRepository.findByName(anyString())).thenReturn(null);
-        when(portRepository.findByName("istanbul")).thenReturn(istanbul);
-        when(portRepository.save(any(PortEntity.class)))
+        when(portRepository.findFirstByNameIgnoreCase(anyString())).thenReturn(null);
+        when(portRepository.findFirstByNameIgnoreCase("istanbul")).thenReturn(istanbul);
+        when(portRepository.saveAndFlush(any(PortEntity.class)))
                 .thenAnswer(invocation -> {
                     PortEntity entity = invocation.getArgument(0);
                     PortEntity savedEntity = new PortEntity();
@@ -53,7 +64,7 @@ public class PortAdapterTests {
     void givenEmptyList_whenPortNameDoesNotPointAny() {
         var result = adapter.findByName("does-not-exist");
 
-        verify(portRepository).findByName("does-not-exist");
+        verify(portRepository).findFirstByNameIgnoreCase("does-not-exist");
         assertNull(result);
     }
 
@@ -61,7 +72,7 @@ public class PortAdapterTests {
     void givenPort_whenPassedProperName() {
         var result = adapter.findByName("istanbul");
 
-        verify(portRepository).findByName("istanbul");
+        verify(portRepository).findFirstByNameIgnoreCase("istanbul");
         assertEquals(result.getName().compareTo("istanbul"), 0);
         assertEquals(result.getId(), istanbul.getId());
     }
@@ -77,8 +88,9 @@ public class PortAdapterTests {
 
         var result = adapter.createPort(command);
 
-        verify(portRepository).findByName(command.getName());
-        verify(portRepository).save(eq(entity));
+        verify(portRepository).findFirstByNameIgnoreCase(command.getName());
+        verify(portRepository).saveAndFlush(eq(entity));
+        verify(changeFeed).recordPortCreated(result);
         assertNotNull(result.getId());
         assertEquals(result.getName().compareToIgnoreCase(command.getName()), 0);
     }
@@ -94,9 +106,48 @@ public class PortAdapterTests {
 
         var result = adapter.createPort(command);
 
-        verify(portRepository).findByName(command.getName());
-        verify(portRepository, never()).save(eq(entity));
+        verify(portRepository).findFirstByNameIgnoreCase(command.getName());
+        verify(portRepository, never()).saveAndFlush(eq(entity));
+        verify(changeFeed, never()).recordPortCreated(any());
         assertNotNull(result.getId());
         assertEquals(result.getName().compareToIgnoreCase(command.getName()), 0);
     }
+
+    @Test
+    void givenPortRegisteredOnlyAfterCommit_whenCreatedInTransaction() {
+        var command = PortCreationCommand.builder()
+                .name("ankara")
+                .build();
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            var result = adapter.createPort(command);
+
+            assertNull(adapter.findByName("ankara"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            assertSame(result, adapter.findByName("ankara"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenPortNotRegistered_whenTransactionRolledBack() {
+        var command = PortCreationCommand.builder()
+                .name("ankara")
+                .build();
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            adapter.createPort(command);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(adapter.findByName("ankara"));
+    }
 }
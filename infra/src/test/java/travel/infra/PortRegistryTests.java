@@ -0,0 +1,179 @@
+package travel.infra;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import travel.infra.adapter.PortRegistry;
+import travel.infra.entity.PortEntity;
+import travel.infra.repository.PortRepository;
+import travel.model.Port;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PortRegistryTests {
+    @Mock
+    PortRepository portRepository;
+
+    PortEntity istanbul = new PortEntity();
+
+    @BeforeEach
+    void init() {
+        istanbul.setId(UUID.randomUUID());
+        istanbul.setCode(7);
+        istanbul.setName("istanbul");
+        when(portRepository.findFirstByNameIgnoreCase(anyString())).thenReturn(null);
+        when(portRepository.findFirstByNameIgnoreCase("istanbul")).thenReturn(istanbul);
+    }
+
+    @Test
+    void givenCachedPort_whenLookedUpAgainInAnotherCase() {
+        var registry = new PortRegistry(portRepository, Duration.ofSeconds(5));
+
+        var first = registry.find("istanbul");
+        var second = registry.find("ISTANBUL");
+
+        verify(portRepository, times(1)).findFirstByNameIgnoreCase(anyString());
+        assertEquals(istanbul.getId(), first.getId());
+        assertEquals(first, second);
+        assertEquals(1, registry.getMissCount());
+        assertEquals(1, registry.getHitCount());
+    }
+
+    @Test
+    void givenNegativeLookupCached_whenWithinTtl() {
+        var registry = new PortRegistry(portRepository, Duration.ofMinutes(1));
+
+        assertNull(registry.find("does-not-exist"));
+        assertNull(registry.find("does-not-exist"));
+
+        verify(portRepository, times(1)).findFirstByNameIgnoreCase("does-not-exist");
+        assertEquals(1, registry.getHitCount());
+    }
+
+    @Test
+    void givenNegativeLookupReloaded_whenTtlElapsed() {
+        var registry = new PortRegistry(portRepository, Duration.ZERO);
+
+        registry.find("does-not-exist");
+        registry.find("does-not-exist");
+
+        verify(portRepository, times(2)).findFirstByNameIgnoreCase("does-not-exist");
+        assertEquals(2, registry.getMissCount());
+    }
+
+    @Test
+    void givenRegisteredPort_whenPreviouslyCachedAsMissing() {
+        var registry = new PortRegistry(portRepository, Duration.ofMinutes(1));
+        var ankara = Port.builder().id(UUID.randomUUID()).name("ankara").build();
+
+        assertNull(registry.find("ankara"));
+
+        registry.register(ankara);
+
+        assertEquals(ankara, registry.find("Ankara"));
+        verify(portRepository, times(1)).findFirstByNameIgnoreCase(anyString());
+    }
+
+    @Test
+    void givenRegisteredPortKept_whenRegisteredDuringMissingLookup() {
+        var registry = new PortRegistry(portRepository, Duration.ofMinutes(1));
+        var ankara = Port.builder().id(UUID.randomUUID()).name("ankara").build();
+
+        when(portRepository.findFirstByNameIgnoreCase("ankara")).thenAnswer(invocation -> {
+            registry.register(ankara);
+            return null;
+        });
+
+        assertEquals(ankara, registry.find("ankara"));
+        assertEquals(ankara, registry.find("Ankara"));
+        verify(portRepository, times(1)).findFirstByNameIgnoreCase("ankara");
+    }
+
+    @Test
+    void givenPortByCode_whenFoundOrRegistered() {
+        var registry = new PortRegistry(portRepository, Duration.ofMinutes(1));
+        var ankara = Port.builder().id(UUID.randomUUID()).code(200).name("ankara").build();
+
+        assertNull(registry.findByCode(7));
+
+        var found = registry.find("istanbul");
+
+        registry.register(ankara);
+
+        assertSame(found, registry.findByCode(7));
+        assertSame(ankara, registry.findByCode(200));
+        assertNull(registry.findByCode(8));
+        assertNull(registry.findByCode(1000));
+    }
+
+    @Test
+    void givenReload_whenInvalidated() {
+        var registry = new PortRegistry(portRepository, Duration.ofMinutes(1));
+
+        registry.find("istanbul");
+        registry.invalidate("Istanbul");
+        registry.find("istanbul");
+
+        verify(portRepository, times(2)).findFirstByNameIgnoreCase("istanbul");
+    }
+
+    @Test
+    void givenSameInstance_whenPortResolvedByNameAndByEntity() {
+        var registry = new PortRegistry(portRepository, Duration.ofMinutes(1));
+        var copy = new PortEntity();
+
+        copy.setId(istanbul.getId());
+        copy.setName(istanbul.getName());
+
+        var byName = registry.find("istanbul");
+
+        assertSame(byName, registry.canonical(istanbul));
+        assertSame(byName, registry.canonical(copy));
+    }
+
+    @Test
+    void givenSameInstanceAfterReload_whenInvalidated() {
+        var registry = new PortRegistry(portRepository, Duration.ofMinutes(1));
+
+        var first = registry.find("istanbul");
+        registry.invalidate("istanbul");
+
+        assertSame(first, registry.find("istanbul"));
+    }
+
+    @Test
+    void givenMissingNamesReadInOneQuery_whenManyLookedUpAtOnce() {
+        var registry = new PortRegistry(portRepository, Duration.ofMinutes(1));
+        var ankara = new PortEntity();
+
+        ankara.setId(UUID.randomUUID());
+        ankara.setName("ankara");
+        when(portRepository.findAllByUpperCaseNameIn(anyCollection())).thenReturn(List.of(ankara));
+        registry.find("istanbul");
+
+        var ports = registry.findAll(List.of("Istanbul", "ANKARA", "ankara", "does-not-exist"));
+
+        verify(portRepository, times(1)).findAllByUpperCaseNameIn(argThat(names -> Set.copyOf(names).equals(Set.of("ANKARA", "DOES-NOT-EXIST"))));
+        assertEquals(Set.of("istanbul", "ankara"), ports.keySet());
+        assertSame(registry.find("istanbul"), ports.get("istanbul"));
+        assertSame(ports.get("ankara"), registry.find("Ankara"));
+        assertNull(registry.find("does-not-exist"));
+        verify(portRepository, never()).findFirstByNameIgnoreCase("ankara");
+        verify(portRepository, never()).findFirstByNameIgnoreCase("does-not-exist");
+    }
+}
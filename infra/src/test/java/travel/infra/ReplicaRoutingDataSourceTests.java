@@ -0,0 +1,263 @@
+package travel.infra;
+
+import jakarta.servlet.http.Cookie;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import travel.infra.datasource.DataSourceRoute;
+import travel.infra.datasource.DataSourceRoutingAspect;
+import travel.infra.datasource.ReadYourWritesFilter;
+import travel.infra.datasource.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ReplicaRoutingDataSourceTests {
+    @Mock
+    DataSource primary;
+
+    @Mock
+    DataSource firstReplica;
+
+    @Mock
+    DataSource secondReplica;
+
+    @Mock
+    Connection primaryConnection;
+
+    @Mock
+    Connection firstConnection;
+
+    @Mock
+    Connection secondConnection;
+
+    @BeforeEach
+    void init() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(firstReplica.getConnection()).thenReturn(firstConnection);
+        when(secondReplica.getConnection()).thenReturn(secondConnection);
+        when(firstConnection.isValid(anyInt())).thenReturn(true);
+        when(secondConnection.isValid(anyInt())).thenReturn(true);
+    }
+
+    Clock clock = Clock.fixed(Instant.parse("2026-10-18T12:00:00Z"), ZoneOffset.UTC);
+
+    @AfterEach
+    void clear() {
+        DataSourceRoute.restore(null);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void givenPrimary_whenNoRouteAndNoReadOnlyTransaction() throws SQLException {
+        var dataSource = routing();
+
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void givenReplicasInTurn_whenRoutedToReplica() throws SQLException {
+        var dataSource = routing();
+
+        DataSourceRoute.REPLICA.enter();
+
+        assertSame(firstConnection, dataSource.getConnection());
+        assertSame(secondConnection, dataSource.getConnection());
+        assertSame(firstConnection, dataSource.getConnection());
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void givenReplica_whenReadOnlyTransactionOutsideHandlers() throws SQLException {
+        var dataSource = routing();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try {
+            assertSame(firstConnection, dataSource.getConnection());
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    @Test
+    void givenPrimary_whenRoutedToPrimaryInReadOnlyTransaction() throws SQLException {
+        var dataSource = routing();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        DataSourceRoute.PRIMARY.enter();
+
+        try {
+            assertSame(primaryConnection, dataSource.getConnection());
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    @Test
+    void givenFailover_whenReplicaConnectionFails() throws SQLException {
+        var dataSource = routing();
+
+        when(firstReplica.getConnection()).thenThrow(new SQLException("down"));
+        DataSourceRoute.REPLICA.enter();
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertEquals(1, dataSource.getUnhealthyReplicas().size());
+        assertSame(secondConnection, dataSource.getConnection());
+        assertSame(secondConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void givenReplicaBackInRotation_whenHealthCheckSucceeds() throws SQLException {
+        var dataSource = routing();
+
+        when(firstConnection.isValid(anyInt())).thenReturn(false);
+        dataSource.checkReplicas();
+
+        assertEquals(1, dataSource.getUnhealthyReplicas().size());
+
+        when(firstConnection.isValid(anyInt())).thenReturn(true);
+        dataSource.checkReplicas();
+
+        assertTrue(dataSource.getUnhealthyReplicas().isEmpty());
+    }
+
+    @Test
+    void givenPrimary_whenNoReplicaHealthy() throws SQLException {
+        var dataSource = routing();
+
+        when(firstConnection.isValid(anyInt())).thenReturn(false);
+        when(secondReplica.getConnection()).thenThrow(new SQLException("down"));
+        dataSource.checkReplicas();
+        DataSourceRoute.REPLICA.enter();
+
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void givenPrimary_whenClientReadsWithinItsWindow() throws Throwable {
+        var dataSource = routing();
+        var filter = new ReadYourWritesFilter(Duration.ofMinutes(1), clock);
+        var response = command(filter, mock(ProceedingJoinPoint.class));
+
+        assertSame(primaryConnection, query(filter, dataSource, response.getCookies()));
+        assertSame(firstConnection, query(filter, dataSource));
+    }
+
+    @Test
+    void givenReplica_whenClientWindowOver() throws Throwable {
+        var dataSource = routing();
+        var response = command(new ReadYourWritesFilter(Duration.ofMinutes(1), clock), mock(ProceedingJoinPoint.class));
+        var later = new ReadYourWritesFilter(Duration.ofMinutes(1), Clock.offset(clock, Duration.ofMinutes(1)));
+
+        assertSame(firstConnection, query(later, dataSource, response.getCookies()));
+    }
+
+    @Test
+    void givenNoCookie_whenCommandFailed() throws Throwable {
+        var filter = new ReadYourWritesFilter(Duration.ofMinutes(1), clock);
+        var joinPoint = mock(ProceedingJoinPoint.class);
+        var response = new MockHttpServletResponse();
+
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("invalid"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+
+        assertThrows(IllegalArgumentException.class, () -> new DataSourceRoutingAspect(filter).routeCommand(joinPoint));
+        assertNull(response.getCookie("flight-search-written-at"));
+    }
+
+    @Test
+    void givenCookie_whenQueuedCommandCompleted() throws Throwable {
+        var filter = new ReadYourWritesFilter(Duration.ofMinutes(1), clock);
+        var joinPoint = mock(ProceedingJoinPoint.class);
+        var written = new CompletableFuture<>();
+        var request = new MockHttpServletRequest();
+        var response = new MockHttpServletResponse();
+
+        when(joinPoint.proceed()).thenReturn(written);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+
+        var result = (CompletableFuture<?>) new DataSourceRoutingAspect(filter).routeCommand(joinPoint);
+
+        assertNull(response.getCookie("flight-search-written-at"));
+
+        written.complete("flight");
+
+        assertEquals("flight", result.join());
+        assertNotNull(response.getCookie("flight-search-written-at"));
+    }
+
+    @Test
+    void givenNoCookie_whenWindowTurnedOff() throws Throwable {
+        var response = command(new ReadYourWritesFilter(Duration.ZERO, clock), mock(ProceedingJoinPoint.class));
+
+        assertNull(response.getCookie("flight-search-written-at"));
+    }
+
+    /**
+     * Runs the command within a web request and returns its response.
+     */
+    private MockHttpServletResponse command(ReadYourWritesFilter filter, ProceedingJoinPoint joinPoint) throws Throwable {
+        var response = new MockHttpServletResponse();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+
+        try {
+            new DataSourceRoutingAspect(filter).routeCommand(joinPoint);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        return response;
+    }
+
+    /**
+     * Sends a request with the given cookies through the filter to a query handler and
+     * returns the connection the handler got.
+     */
+    private Connection query(ReadYourWritesFilter filter, ReplicaRoutingDataSource dataSource, Cookie... cookies) throws Throwable {
+        var request = new MockHttpServletRequest();
+        var joinPoint = mock(ProceedingJoinPoint.class);
+        var connection = new AtomicReference<Connection>();
+
+        request.setCookies(cookies);
+        when(joinPoint.proceed()).thenAnswer(invocation -> dataSource.getConnection());
+        filter.doFilter(request, new MockHttpServletResponse(), (filteredRequest, filteredResponse) -> {
+            try {
+                connection.set((Connection) new DataSourceRoutingAspect(filter).routeQuery(joinPoint));
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return connection.get();
+    }
+
+    private ReplicaRoutingDataSource routing() {
+        return new ReplicaRoutingDataSource(primary, List.of(firstReplica, secondReplica));
+    }
+}
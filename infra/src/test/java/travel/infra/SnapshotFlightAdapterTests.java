@@ -0,0 +1,141 @@
+package travel.infra;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import travel.command.FlightCreationCommand;
+import travel.infra.adapter.SnapshotFlightAdapter;
+import travel.infra.adapter.SnapshotReadOnlyException;
+import travel.infra.snapshot.TimetableSnapshot;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.query.RouteDayQuery;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotFlightAdapterTests {
+    @TempDir
+    Path directory;
+
+    SnapshotFlightAdapter adapter;
+
+    Port istanbul = Port.builder().id(UUID.randomUUID()).code(1).name("istanbul").build();
+
+    Port ankara = Port.builder().id(UUID.randomUUID()).code(2).name("ankara").build();
+
+    Port izmir = Port.builder().id(UUID.randomUUID()).code(3).name("izmir").build();
+
+    LocalDate day = LocalDate.now().plusDays(3);
+
+    Flight late = flight(istanbul, ankara, day.atTime(18, 0), 299.9, "TL");
+
+    Flight early = flight(istanbul, ankara, day.atTime(9, 30), 149.9, "EUR");
+
+    Flight nextDay = flight(istanbul, ankara, day.plusDays(1).atTime(7, 0), 99.9, "TL");
+
+    Flight back = flight(ankara, istanbul, day.atTime(12, 0), 199.9, "TL");
+
+    @BeforeEach
+    void init() throws IOException {
+        var path = directory.resolve("timetable.snapshot");
+
+        TimetableSnapshot.write(path, List.of(istanbul, ankara, izmir), List.of(late, nextDay, back, early));
+        adapter = new SnapshotFlightAdapter(path);
+        adapter.load();
+    }
+
+    @Test
+    void givenRouteDayOrderedByDepartureTime_whenQueried() {
+        var flights = adapter.getAvailableFlights(query(istanbul, ankara, day));
+
+        assertEquals(List.of(early, late), flights);
+        assertSame(flights.get(0).getDeparture(), flights.get(1).getDeparture());
+        assertEquals(List.of(back), adapter.getAvailableFlights(query(ankara, istanbul, day)));
+    }
+
+    @Test
+    void givenEmptyList_whenRouteOrPortUnknown() {
+        assertTrue(adapter.getAvailableFlights(query(istanbul, izmir, day)).isEmpty());
+        assertTrue(adapter.getAvailableFlights(query(Port.builder().code(42).build(), ankara, day)).isEmpty());
+        assertTrue(adapter.getAvailableFlights(query(istanbul, ankara, day.plusDays(2))).isEmpty());
+    }
+
+    @Test
+    void givenFlightsOfEveryRoute_whenDepartingBetween() {
+        assertEquals(List.of(early, back, late), adapter.getFlightsDepartingBetween(day.atStartOfDay(), day.atTime(18, 0)));
+        assertEquals(List.of(early, late, nextDay), adapter.getAvailableFlightsBetween(istanbul, ankara, day, day.plusDays(1)));
+    }
+
+    @Test
+    void givenDictionariesAndCounts_whenSnapshotOpened() {
+        var snapshot = adapter.getSnapshot();
+
+        assertEquals(3, snapshot.getPortCount());
+        assertEquals(4, snapshot.getFlightCount());
+        assertFalse(snapshot.getCreatedAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void givenNewSnapshot_whenRewrittenAndReloaded() throws IOException {
+        var path = directory.resolve("timetable.snapshot");
+
+        TimetableSnapshot.write(path, List.of(), List.of(late));
+        adapter.load();
+
+        assertEquals(List.of(late), adapter.getAvailableFlights(query(istanbul, ankara, day)));
+        assertEquals(2, adapter.getSnapshot().getPortCount());
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void givenSnapshotReadOnlyException_whenCreatingFlight() {
+        var command = FlightCreationCommand.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureTime(day.atTime(12, 0))
+                .amount(199.9)
+                .currency("TL")
+                .build();
+
+        assertThrows(SnapshotReadOnlyException.class, () -> adapter.createFlight(command));
+        assertThrows(SnapshotReadOnlyException.class, () -> adapter.createFlights(List.of(command)));
+    }
+
+    @Test
+    void throwsUncheckedIOException_whenSnapshotMissing() {
+        var missing = new SnapshotFlightAdapter(directory.resolve("missing.snapshot"));
+
+        assertThrows(UncheckedIOException.class, missing::load);
+    }
+
+    static RouteDayQuery query(Port departure, Port arrival, LocalDate day) {
+        return RouteDayQuery.builder()
+                .departure(departure)
+                .arrival(arrival)
+                .departureDate(day)
+                .build();
+    }
+
+    static Flight flight(Port departure, Port arrival, LocalDateTime departureTime, double amount, String currency) {
+        return Flight.builder()
+                .id(UUID.randomUUID())
+                .departure(departure)
+                .arrival(arrival)
+                .departureTime(departureTime)
+                .amount(amount)
+                .currency(currency)
+                .build();
+    }
+}
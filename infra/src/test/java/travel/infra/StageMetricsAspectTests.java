@@ -0,0 +1,131 @@
+package travel.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Repository;
+import travel.exception.IncompleteQueryException;
+import travel.exception.PastDateException;
+import travel.handler.QueryHandler;
+import travel.infra.metrics.StageMetricsAspect;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.query.OneWayFlightQuery;
+import travel.result.OneWayFlightResult;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StageMetricsAspectTests {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    QueryHandler<OneWayFlightResult, OneWayFlightQuery> handler;
+
+    @BeforeEach
+    void init() {
+        QueryHandler<OneWayFlightResult, OneWayFlightQuery> target = new OneWayStub();
+        var factory = new AspectJProxyFactory(target);
+
+        factory.addAspect(new StageMetricsAspect(meterRegistry));
+        handler = factory.getProxy();
+    }
+
+    @Test
+    void givenLatencyAndResultSize_whenHandlerSucceeds() {
+        handler.handle(query("istanbul"));
+        handler.handle(query("istanbul"));
+
+        var timer = meterRegistry.get("flight.search.stage")
+                .tag("stage", "handler")
+                .tag("component", "OneWayStub")
+                .tag("operation", "handle")
+                .tag("outcome", "success")
+                .timer();
+        var size = meterRegistry.get("flight.search.result.size")
+                .tag("component", "OneWayStub")
+                .summary();
+
+        assertEquals(2, timer.count());
+        assertEquals(2, size.count());
+        assertEquals(4, size.totalAmount());
+    }
+
+    @Test
+    void givenErrorCount_whenHandlerThrows() {
+        assertThrows(IncompleteQueryException.class, () -> handler.handle(query(null)));
+        assertThrows(IncompleteQueryException.class, () -> handler.handle(query(null)));
+
+        var timer = meterRegistry.get("flight.search.stage")
+                .tag("outcome", "error")
+                .tag("exception", "validation")
+                .timer();
+
+        assertEquals(2, timer.count());
+        assertNull(meterRegistry.find("flight.search.result.size").summary());
+    }
+
+    @Test
+    void givenFixedExceptionCategories_whenAnythingThrown() {
+        assertEquals("validation", StageMetricsAspect.categoryOf(new PastDateException("past")));
+        assertEquals("other", StageMetricsAspect.categoryOf(new IllegalArgumentException()));
+        assertEquals("data_access", StageMetricsAspect.categoryOf(new QueryTimeoutException("slow")));
+        assertEquals("other", StageMetricsAspect.categoryOf(new IllegalStateException()));
+        assertEquals("other", StageMetricsAspect.categoryOf(new OutOfMemoryError()));
+    }
+
+    @Test
+    void givenRepositoryStage_whenJdbcRepositoryCalled() {
+        var factory = new AspectJProxyFactory(new JdbcStub());
+
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new StageMetricsAspect(meterRegistry));
+
+        JdbcStub repository = factory.getProxy();
+
+        assertEquals(3, repository.findAll().size());
+
+        var timer = meterRegistry.get("flight.search.stage")
+                .tag("stage", "repository")
+                .tag("component", "JdbcStub")
+                .tag("operation", "findAll")
+                .timer();
+
+        assertEquals(1, timer.count());
+    }
+
+    private static OneWayFlightQuery query(String departure) {
+        return OneWayFlightQuery.builder()
+                .departurePort(departure)
+                .arrivalPort("ankara")
+                .departureDate(LocalDate.now())
+                .build();
+    }
+
+    static class OneWayStub implements QueryHandler<OneWayFlightResult, OneWayFlightQuery> {
+        @Override
+        public OneWayFlightResult handle(OneWayFlightQuery query) {
+            if (query.getDeparturePort() == null)
+                throw new IncompleteQueryException("The departure port is missing.");
+
+            var istanbul = Port.builder().name(query.getDeparturePort()).build();
+            var flights = List.of(Flight.builder().departure(istanbul).build(), Flight.builder().departure(istanbul).build());
+
+            return OneWayFlightResult.builder()
+                    .departure(istanbul)
+                    .flightCount(flights.size())
+                    .flights(flights)
+                    .build();
+        }
+    }
+
+    @Repository
+    static class JdbcStub {
+        public List<Integer> findAll() {
+            return List.of(1, 2, 3);
+        }
+    }
+}
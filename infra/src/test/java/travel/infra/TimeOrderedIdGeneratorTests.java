@@ -0,0 +1,45 @@
+package travel.infra;
+
+import org.junit.jupiter.api.Test;
+import travel.infra.entity.TimeOrderedIdGenerator;
+
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeOrderedIdGeneratorTests {
+    @Test
+    void givenVersion7Uuid_whenGenerated() {
+        var before = System.currentTimeMillis();
+        var id = TimeOrderedIdGenerator.next();
+        var after = System.currentTimeMillis();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(id.getMostSignificantBits() >>> 16 >= before);
+        assertTrue(id.getMostSignificantBits() >>> 16 <= after);
+    }
+
+    @Test
+    void givenIncreasingIds_whenGeneratedInLaterMilliseconds() throws InterruptedException {
+        var first = TimeOrderedIdGenerator.next();
+
+        Thread.sleep(2);
+
+        var second = TimeOrderedIdGenerator.next();
+
+        assertTrue(first.compareTo(second) < 0);
+        assertTrue(first.toString().compareTo(second.toString()) < 0);
+    }
+
+    @Test
+    void givenDistinctIds_whenGeneratedWithinSameMillisecond() {
+        var ids = new HashSet<UUID>();
+
+        for (int i = 0; i < 10_000; i++)
+            ids.add(TimeOrderedIdGenerator.next());
+
+        assertEquals(10_000, ids.size());
+    }
+}
@@ -0,0 +1,234 @@
+package travel.infra;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import travel.command.FlightCreationCommand;
+import travel.infra.adapter.FlightAdapter;
+import travel.infra.adapter.TimetableFlightAdapter;
+import travel.model.ChangeEvent;
+import travel.model.ChangeType;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.port.ChangeFeedPort;
+import travel.query.RouteDayQuery;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TimetableFlightAdapterTests {
+    @Mock
+    FlightAdapter flightAdapter;
+
+    @Mock
+    ChangeFeedPort changeFeed;
+
+    @Captor
+    ArgumentCaptor<Consumer<ChangeEvent>> listener;
+
+    TimetableFlightAdapter adapter;
+
+    Port istanbul = Port.builder().id(UUID.randomUUID()).code(1).name("istanbul").build();
+
+    Port ankara = Port.builder().id(UUID.randomUUID()).code(2).name("ankara").build();
+
+    LocalDate day = LocalDate.now().plusDays(3);
+
+    @BeforeEach
+    void init() {
+        when(flightAdapter.getUpcomingFlights(any(LocalDateTime.class)))
+                .thenReturn(List.of(flight(istanbul, ankara, day.atTime(18, 0)), flight(istanbul, ankara, day.atTime(9, 30))));
+        when(flightAdapter.createFlight(any(FlightCreationCommand.class)))
+                .thenAnswer(invocation -> {
+                    FlightCreationCommand command = invocation.getArgument(0);
+
+                    return flight(istanbul, ankara, command.getDepartureTime());
+                });
+        when(flightAdapter.createFlights(anyList()))
+                .thenAnswer(invocation -> {
+                    List<FlightCreationCommand> commands = invocation.getArgument(0);
+
+                    return commands.stream()
+                            .map(command -> flight(istanbul, ankara, command.getDepartureTime()))
+                            .toList();
+                });
+        when(changeFeed.getLastSequence()).thenReturn(7L);
+        when(changeFeed.subscribe(eq(7L), listener.capture())).thenReturn(() -> {
+        });
+        adapter = new TimetableFlightAdapter(flightAdapter, changeFeed, Duration.ofHours(1));
+        adapter.load();
+    }
+
+    @Test
+    void givenFlightsSortedByDepartureTime_whenQueryPassed() {
+        var flights = adapter.getAvailableFlights(query(istanbul, ankara, day));
+
+        assertEquals(2, flights.size());
+        assertEquals(day.atTime(9, 30), flights.get(0).getDepartureTime());
+        assertEquals(day.atTime(18, 0), flights.get(1).getDepartureTime());
+    }
+
+    @Test
+    void givenFlights_whenPortsMatchByCode() {
+        var departure = Port.builder().code(istanbul.getCode()).build();
+        var arrival = Port.builder().code(ankara.getCode()).build();
+
+        assertEquals(2, adapter.getAvailableFlights(query(departure, arrival, day)).size());
+    }
+
+    @Test
+    void givenEmptyList_whenRouteDayIsNotIndexed() {
+        assertTrue(adapter.getAvailableFlights(query(ankara, istanbul, day)).isEmpty());
+        assertTrue(adapter.getAvailableFlights(query(istanbul, ankara, day.plusDays(1))).isEmpty());
+    }
+
+    @Test
+    void givenFlightsOrderedByDepartureTime_whenTimeWindowPassed() {
+        var flights = adapter.getFlightsDepartingBetween(day.atTime(9, 0), day.atTime(20, 0));
+
+        assertEquals(2, flights.size());
+        assertEquals(day.atTime(9, 30), flights.get(0).getDepartureTime());
+        assertTrue(adapter.getFlightsDepartingBetween(day.atTime(10, 0), day.atTime(17, 0)).isEmpty());
+    }
+
+    @Test
+    void givenIndexedFlight_whenCreated() {
+        var command = FlightCreationCommand.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureTime(day.atTime(12, 0))
+                .amount(199.9)
+                .currency("TL")
+                .build();
+
+        adapter.createFlight(command);
+
+        var flights = adapter.getAvailableFlights(query(istanbul, ankara, day));
+
+        verify(flightAdapter).createFlight(command);
+        assertEquals(3, flights.size());
+        assertEquals(day.atTime(12, 0), flights.get(1).getDepartureTime());
+    }
+
+    @Test
+    void givenIndexedFlights_whenCreatedInBulk() {
+        var commands = List.of(
+                FlightCreationCommand.builder().departurePort("istanbul").arrivalPort("ankara").departureTime(day.atTime(7, 0)).amount(99.9).currency("TL").build(),
+                FlightCreationCommand.builder().departurePort("istanbul").arrivalPort("ankara").departureTime(day.atTime(21, 0)).amount(99.9).currency("TL").build());
+
+        adapter.createFlights(commands);
+
+        var flights = adapter.getAvailableFlights(query(istanbul, ankara, day));
+
+        verify(flightAdapter).createFlights(commands);
+        assertEquals(4, flights.size());
+        assertEquals(day.atTime(7, 0), flights.get(0).getDepartureTime());
+        assertEquals(day.atTime(21, 0), flights.get(3).getDepartureTime());
+    }
+
+    @Test
+    void givenIndexedFlight_whenCreatedOnAnotherInstance() {
+        listener.getValue().accept(ChangeEvent.builder()
+                .sequence(8)
+                .type(ChangeType.FLIGHT_CREATED)
+                .flight(flight(istanbul, ankara, day.atTime(12, 0)))
+                .build());
+
+        var flights = adapter.getAvailableFlights(query(istanbul, ankara, day));
+
+        assertEquals(3, flights.size());
+        assertEquals(day.atTime(12, 0), flights.get(1).getDepartureTime());
+    }
+
+    @Test
+    void givenFlightIndexedOnce_whenLocalWriteAlsoPublished() {
+        var command = FlightCreationCommand.builder()
+                .departurePort("istanbul")
+                .arrivalPort("ankara")
+                .departureTime(day.atTime(12, 0))
+                .amount(199.9)
+                .currency("TL")
+                .build();
+
+        var flight = adapter.createFlight(command);
+
+        listener.getValue().accept(ChangeEvent.builder()
+                .sequence(8)
+                .type(ChangeType.FLIGHT_CREATED)
+                .flight(flight)
+                .build());
+
+        assertEquals(3, adapter.getAvailableFlights(query(istanbul, ankara, day)).size());
+        assertEquals(3, adapter.getFlightsDepartingBetween(day.atStartOfDay(), day.atTime(23, 59)).size());
+    }
+
+    @Test
+    void givenPastFlightsEvicted_whenEvicting() {
+        var yesterday = LocalDate.now().minusDays(1);
+
+        listener.getValue().accept(ChangeEvent.builder()
+                .sequence(8)
+                .type(ChangeType.FLIGHT_CREATED)
+                .flight(flight(istanbul, ankara, yesterday.atTime(12, 0)))
+                .build());
+
+        assertEquals(1, adapter.getFlightsDepartingBetween(yesterday.atStartOfDay(), yesterday.atTime(23, 59)).size());
+        assertEquals(1, adapter.evict());
+        assertTrue(adapter.getAvailableFlights(query(istanbul, ankara, yesterday)).isEmpty());
+        assertTrue(adapter.getFlightsDepartingBetween(yesterday.atStartOfDay(), yesterday.atTime(23, 59)).isEmpty());
+        assertEquals(2, adapter.getAvailableFlights(query(istanbul, ankara, day)).size());
+        assertEquals(0, adapter.evict());
+    }
+
+    @Test
+    void givenPreviousFlightsServed_whileReloading() {
+        when(flightAdapter.getUpcomingFlights(any(LocalDateTime.class))).thenAnswer(invocation -> {
+            assertEquals(2, adapter.getAvailableFlights(query(istanbul, ankara, day)).size());
+            return List.of(flight(istanbul, ankara, day.atTime(7, 0)));
+        });
+
+        adapter.load();
+
+        var flights = adapter.getAvailableFlights(query(istanbul, ankara, day));
+
+        assertEquals(1, flights.size());
+        assertEquals(day.atTime(7, 0), flights.get(0).getDepartureTime());
+    }
+
+    private static RouteDayQuery query(Port departure, Port arrival, LocalDate date) {
+        return RouteDayQuery.builder()
+                .departure(departure)
+                .arrival(arrival)
+                .departureDate(date)
+                .build();
+    }
+
+    private static Flight flight(Port departure, Port arrival, LocalDateTime departureTime) {
+        return Flight.builder()
+                .id(UUID.randomUUID())
+                .departure(departure)
+                .arrival(arrival)
+                .departureTime(departureTime)
+                .amount(199.9)
+                .currency("TL")
+                .build();
+    }
+}
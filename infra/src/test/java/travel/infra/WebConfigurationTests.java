@@ -0,0 +1,75 @@
+package travel.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.result.OneWayFlightResult;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WebConfigurationTests {
+    MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+    Port istanbul = Port.builder().id(UUID.randomUUID()).name("istanbul").build();
+
+    Port ankara = Port.builder().id(UUID.randomUUID()).name("ankara").build();
+
+    LocalDate departureDate = LocalDate.now().plusDays(1);
+
+    OneWayFlightResult result = OneWayFlightResult.builder()
+            .departure(istanbul)
+            .arrival(ankara)
+            .departureDate(departureDate)
+            .flightCount(50)
+            .flights(IntStream.range(0, 50)
+                    .mapToObj(i -> Flight.builder()
+                            .id(UUID.randomUUID())
+                            .departure(istanbul)
+                            .arrival(ankara)
+                            .departureTime(departureDate.atTime(6, 0).plusMinutes(i * 15L))
+                            .amount(100 + i)
+                            .currency("TRY")
+                            .build())
+                    .toList())
+            .build();
+
+    @Test
+    void givenSameDocumentAsJson_whenResultWrittenAsSmile() throws Exception {
+        var converter = new WebConfiguration().smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json());
+        var message = new MockHttpOutputMessage();
+
+        converter.write(result, smile, message);
+
+        var jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        var jsonBytes = jsonMapper.writeValueAsBytes(result);
+        var json = jsonMapper.readTree(jsonBytes);
+        var tree = new ObjectMapper(WebConfiguration.smileFactory()).readTree(message.getBodyAsBytes());
+        var flight = tree.get("flights").get(49);
+
+        assertTrue(converter.canWrite(OneWayFlightResult.class, smile));
+        assertEquals(smile, message.getHeaders().getContentType());
+        assertEquals(json.get("departure").get("name"), tree.get("departure").get("name"));
+        assertEquals(json.get("departureDate"), tree.get("departureDate"));
+        assertEquals(json.get("flightCount"), tree.get("flightCount"));
+        assertEquals(json.get("flights").get(49).get("departureTime"), flight.get("departureTime"));
+        assertEquals(json.get("flights").get(49).get("amount"), flight.get("amount"));
+        assertEquals(result.getFlights().get(49).getId(), toUuid(flight.get("id").binaryValue()));
+        assertEquals(istanbul.getId(), toUuid(flight.get("departure").get("id").binaryValue()));
+        assertTrue(message.getBodyAsBytes().length < jsonBytes.length / 2);
+    }
+
+    UUID toUuid(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
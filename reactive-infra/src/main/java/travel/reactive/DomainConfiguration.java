@@ -0,0 +1,31 @@
+package travel.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import travel.query.OneWayFlightQuery;
+import travel.query.TwoWayFlightQuery;
+import travel.reactive.handler.ReactiveOneWayFlightQueryHandler;
+import travel.reactive.handler.ReactiveQueryHandler;
+import travel.reactive.handler.ReactiveTwoWayFlightQueryHandler;
+import travel.reactive.port.ReactiveFlightPort;
+import travel.reactive.port.ReactivePortPort;
+import travel.result.OneWayFlightResult;
+import travel.result.TwoWayFlightResult;
+
+@Configuration
+@RequiredArgsConstructor
+public class DomainConfiguration {
+    private final ReactiveFlightPort flightPort;
+    private final ReactivePortPort portPort;
+
+    @Bean
+    public ReactiveQueryHandler<OneWayFlightResult, OneWayFlightQuery> oneWayFlightQueryHandler() {
+        return new ReactiveOneWayFlightQueryHandler(flightPort, portPort);
+    }
+
+    @Bean
+    public ReactiveQueryHandler<TwoWayFlightResult, TwoWayFlightQuery> twoWayFlightQueryHandler() {
+        return new ReactiveTwoWayFlightQueryHandler(flightPort, portPort);
+    }
+}
@@ -0,0 +1,49 @@
+package travel.reactive.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.reactive.port.ReactiveFlightPort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class R2dbcFlightAdapter implements ReactiveFlightPort {
+    private static final String SELECT_ROUTE = "SELECT id, departure_time, amount, currency FROM flight WHERE departure_port_id = :departureId AND arrival_port_id = :arrivalId AND departure_time >= :timeRangeStart AND departure_time <= :timeRangeEnd ORDER BY departure_time";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<Flight> getAvailableFlights(Port departure, Port arrival, LocalDate departureDate) {
+        return findAllByRoute(
+                departure,
+                arrival,
+                LocalDateTime.of(departureDate, LocalTime.MIDNIGHT),
+                departureDate.atTime(LocalTime.MAX)
+        );
+    }
+
+    private Flux<Flight> findAllByRoute(Port departure, Port arrival, LocalDateTime timeRangeStart, LocalDateTime timeRangeEnd) {
+        return databaseClient.sql(SELECT_ROUTE)
+                .bind("departureId", departure.getId())
+                .bind("arrivalId", arrival.getId())
+                .bind("timeRangeStart", timeRangeStart)
+                .bind("timeRangeEnd", timeRangeEnd)
+                .map((row, metadata) -> Flight.builder()
+                        .id(row.get("id", UUID.class))
+                        .departure(departure)
+                        .arrival(arrival)
+                        .departureTime(row.get("departure_time", LocalDateTime.class))
+                        .amount(row.get("amount", Double.class))
+                        .currency(row.get("currency", String.class))
+                        .build())
+                .all();
+    }
+}
@@ -0,0 +1,49 @@
+package travel.reactive.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import travel.model.Port;
+import travel.reactive.port.ReactivePortPort;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ports practically never change, so found ports are kept for the lifetime of the
+ * instance and shared by every result. Unknown names are not cached.
+ */
+@Service
+@RequiredArgsConstructor
+public class R2dbcPortAdapter implements ReactivePortPort {
+    private static final String SELECT_PORT = "SELECT id, code, name FROM port WHERE UPPER(name) = UPPER(:name) LIMIT 1";
+
+    private final DatabaseClient databaseClient;
+    private final Map<String, Port> ports = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Port> findByName(String name) {
+        return Mono.defer(() -> find(name));
+    }
+
+    private Mono<Port> find(String name) {
+        var key = name.toLowerCase(Locale.ROOT);
+        var port = ports.get(key);
+
+        if (port != null)
+            return Mono.just(port);
+
+        return databaseClient.sql(SELECT_PORT)
+                .bind("name", name)
+                .map((row, metadata) -> Port.builder()
+                        .id(row.get("id", UUID.class))
+                        .code(row.get("code", Integer.class))
+                        .name(row.get("name", String.class))
+                        .build())
+                .one()
+                .map(found -> ports.computeIfAbsent(key, ignored -> found));
+    }
+}
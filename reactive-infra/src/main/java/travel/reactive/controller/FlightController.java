@@ -0,0 +1,33 @@
+package travel.reactive.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import travel.query.OneWayFlightQuery;
+import travel.query.TwoWayFlightQuery;
+import travel.reactive.dto.OneWayFlightSearchRequest;
+import travel.reactive.dto.TwoWayFlightRequest;
+import travel.reactive.handler.ReactiveQueryHandler;
+import travel.result.OneWayFlightResult;
+import travel.result.TwoWayFlightResult;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("flights/")
+public class FlightController {
+    private final ReactiveQueryHandler<OneWayFlightResult, OneWayFlightQuery> oneWayFlightQueryHandler;
+    private final ReactiveQueryHandler<TwoWayFlightResult, TwoWayFlightQuery> twoWayFlightQueryHandler;
+
+    @PostMapping("one-way-search/")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<OneWayFlightResult> findOneWayFlights(@RequestBody OneWayFlightSearchRequest request) {
+        return oneWayFlightQueryHandler.handle(request.toQuery());
+    }
+
+    @PostMapping("two-way-search/")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<TwoWayFlightResult> findTwoWayFlights(@RequestBody TwoWayFlightRequest request) {
+        return twoWayFlightQueryHandler.handle(request.toQuery());
+    }
+}
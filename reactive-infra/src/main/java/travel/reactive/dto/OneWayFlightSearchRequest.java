@@ -0,0 +1,32 @@
+package travel.reactive.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import travel.query.FlightSort;
+import travel.query.OneWayFlightQuery;
+
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class OneWayFlightSearchRequest {
+    private String departure;
+    private String arrival;
+    private LocalDate departureDate;
+    private FlightSort sort;
+    private int limit;
+    private String pageToken;
+
+    public OneWayFlightQuery toQuery() {
+        return OneWayFlightQuery.builder()
+                .departurePort(departure)
+                .arrivalPort(arrival)
+                .departureDate(departureDate)
+                .sort(sort)
+                .limit(limit)
+                .pageToken(pageToken)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package travel.reactive.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import travel.query.FlightSort;
+import travel.query.TwoWayFlightQuery;
+
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class TwoWayFlightRequest {
+    private String departure;
+    private String arrival;
+    private LocalDate departureDate;
+    private LocalDate returnDate;
+    private FlightSort sort;
+    private int limit;
+    private String departurePageToken;
+    private String returnPageToken;
+
+    public TwoWayFlightQuery toQuery() {
+        return TwoWayFlightQuery.builder()
+                .departurePort(departure)
+                .arrivalPort(arrival)
+                .departureDate(departureDate)
+                .returnDate(returnDate)
+                .sort(sort)
+                .limit(limit)
+                .departurePageToken(departurePageToken)
+                .returnPageToken(returnPageToken)
+                .build();
+    }
+}
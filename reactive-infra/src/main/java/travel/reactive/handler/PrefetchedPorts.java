@@ -0,0 +1,62 @@
+package travel.reactive.handler;
+
+import travel.command.FlightCreationCommand;
+import travel.command.PortCreationCommand;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.port.FlightPort;
+import travel.port.PortPort;
+import travel.query.RouteDayQuery;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Blocking ports answered from data the reactive ports already fetched, so that the
+ * domain handlers, with their validation and paging, run unchanged on the event loop
+ * without ever waiting for I/O. Writes are not supported.
+ */
+class PrefetchedPorts implements FlightPort, PortPort {
+    private final Map<String, Port> ports = new HashMap<>();
+    private final Map<RouteDay, List<Flight>> flights = new HashMap<>();
+
+    PrefetchedPorts port(String name, Port port) {
+        if (name != null && port != null)
+            ports.put(name.toLowerCase(Locale.ROOT), port);
+
+        return this;
+    }
+
+    PrefetchedPorts flights(Port departure, Port arrival, LocalDate date, List<Flight> flights) {
+        if (departure != null && arrival != null && date != null)
+            this.flights.put(new RouteDay(departure.getCode(), arrival.getCode(), date), flights);
+
+        return this;
+    }
+
+    @Override
+    public Port findByName(String name) {
+        return ports.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public List<Flight> getAvailableFlights(RouteDayQuery query) {
+        return flights.getOrDefault(new RouteDay(query.getDeparture().getCode(), query.getArrival().getCode(), query.getDepartureDate()), List.of());
+    }
+
+    @Override
+    public Port createPort(PortCreationCommand command) {
+        throw new UnsupportedOperationException("Prefetched ports are read-only.");
+    }
+
+    @Override
+    public Flight createFlight(FlightCreationCommand command) {
+        throw new UnsupportedOperationException("Prefetched ports are read-only.");
+    }
+
+    private record RouteDay(int departure, int arrival, LocalDate date) {
+    }
+}
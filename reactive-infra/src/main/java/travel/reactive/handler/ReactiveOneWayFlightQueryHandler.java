@@ -0,0 +1,55 @@
+package travel.reactive.handler;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import travel.handler.OneWayFlightQueryHandler;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.query.OneWayFlightQuery;
+import travel.reactive.port.ReactiveFlightPort;
+import travel.reactive.port.ReactivePortPort;
+import travel.result.OneWayFlightResult;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Validates the query, fetches both ports concurrently and then the route-day between
+ * them through the reactive ports, then runs {@link OneWayFlightQueryHandler} over the
+ * fetched data. A port that is not found leaves the flights unfetched, and the handler
+ * reports the incorrect name.
+ */
+@RequiredArgsConstructor
+public class ReactiveOneWayFlightQueryHandler implements ReactiveQueryHandler<OneWayFlightResult, OneWayFlightQuery> {
+    private final ReactiveFlightPort flightPort;
+    private final ReactivePortPort portPort;
+
+    @Override
+    public Mono<OneWayFlightResult> handle(OneWayFlightQuery query) {
+        return Mono.fromRunnable(() -> OneWayFlightQueryHandler.validate(query))
+                .then(Mono.defer(() -> Mono.zip(lookup(query.getDeparturePort()), lookup(query.getArrivalPort()))))
+                .flatMap(ports -> {
+                    Port departure = ports.getT1().orElse(null);
+                    Port arrival = ports.getT2().orElse(null);
+                    Mono<List<Flight>> flights = departure == null || arrival == null
+                            ? Mono.just(List.of())
+                            : flightPort.getAvailableFlights(departure, arrival, query.getDepartureDate()).collectList();
+
+                    return flights.map(fetched -> {
+                        PrefetchedPorts prefetched = new PrefetchedPorts()
+                                .port(query.getDeparturePort(), departure)
+                                .port(query.getArrivalPort(), arrival)
+                                .flights(departure, arrival, query.getDepartureDate(), fetched);
+
+                        return new OneWayFlightQueryHandler(prefetched, prefetched).handle(query);
+                    });
+                });
+    }
+
+    private Mono<Optional<Port>> lookup(String name) {
+        return Mono.justOrEmpty(name)
+                .flatMap(portPort::findByName)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    }
+}
@@ -0,0 +1,9 @@
+package travel.reactive.handler;
+
+import reactor.core.publisher.Mono;
+import travel.query.Query;
+import travel.result.Result;
+
+public interface ReactiveQueryHandler<R extends Result, T extends Query> {
+    Mono<R> handle(T query);
+}
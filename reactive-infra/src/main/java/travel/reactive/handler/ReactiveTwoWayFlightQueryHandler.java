@@ -0,0 +1,56 @@
+package travel.reactive.handler;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import travel.handler.TwoWayFlightQueryHandler;
+import travel.model.Port;
+import travel.model.RoundTripFlights;
+import travel.query.TwoWayFlightQuery;
+import travel.reactive.port.ReactiveFlightPort;
+import travel.reactive.port.ReactivePortPort;
+import travel.result.TwoWayFlightResult;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Validates the query, fetches both ports concurrently and then both legs between them
+ * through the reactive ports, then runs {@link TwoWayFlightQueryHandler} over the fetched
+ * data. A port that is not found leaves the flights unfetched, and the handler reports
+ * the incorrect name.
+ */
+@RequiredArgsConstructor
+public class ReactiveTwoWayFlightQueryHandler implements ReactiveQueryHandler<TwoWayFlightResult, TwoWayFlightQuery> {
+    private final ReactiveFlightPort flightPort;
+    private final ReactivePortPort portPort;
+
+    @Override
+    public Mono<TwoWayFlightResult> handle(TwoWayFlightQuery query) {
+        return Mono.fromRunnable(() -> TwoWayFlightQueryHandler.validate(query))
+                .then(Mono.defer(() -> Mono.zip(lookup(query.getDeparturePort()), lookup(query.getArrivalPort()))))
+                .flatMap(ports -> {
+                    Port departure = ports.getT1().orElse(null);
+                    Port arrival = ports.getT2().orElse(null);
+                    Mono<RoundTripFlights> flights = departure == null || arrival == null
+                            ? Mono.just(RoundTripFlights.builder().departureFlights(List.of()).returnFlights(List.of()).build())
+                            : flightPort.getRoundTripFlights(departure, arrival, query.getDepartureDate(), query.getReturnDate());
+
+                    return flights.map(fetched -> {
+                        PrefetchedPorts prefetched = new PrefetchedPorts()
+                                .port(query.getDeparturePort(), departure)
+                                .port(query.getArrivalPort(), arrival)
+                                .flights(departure, arrival, query.getDepartureDate(), fetched.getDepartureFlights())
+                                .flights(arrival, departure, query.getReturnDate(), fetched.getReturnFlights());
+
+                        return new TwoWayFlightQueryHandler(prefetched, prefetched).handle(query);
+                    });
+                });
+    }
+
+    private Mono<Optional<Port>> lookup(String name) {
+        return Mono.justOrEmpty(name)
+                .flatMap(portPort::findByName)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    }
+}
@@ -0,0 +1,33 @@
+package travel.reactive.port;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.model.RoundTripFlights;
+
+import java.time.LocalDate;
+
+/**
+ * Non-blocking counterpart of {@link travel.port.FlightPort}. Like it, it takes ports the
+ * handlers have already resolved.
+ */
+public interface ReactiveFlightPort {
+    /**
+     * All flights of the route-day ordered by departure time; sorting and paging are
+     * applied by the domain handler.
+     */
+    Flux<Flight> getAvailableFlights(Port departure, Port arrival, LocalDate departureDate);
+
+    /**
+     * Both legs of a round trip, fetched concurrently.
+     */
+    default Mono<RoundTripFlights> getRoundTripFlights(Port departure, Port arrival, LocalDate departureDate, LocalDate returnDate) {
+        return Mono.zip(getAvailableFlights(departure, arrival, departureDate).collectList(),
+                        getAvailableFlights(arrival, departure, returnDate).collectList())
+                .map(legs -> RoundTripFlights.builder()
+                        .departureFlights(legs.getT1())
+                        .returnFlights(legs.getT2())
+                        .build());
+    }
+}
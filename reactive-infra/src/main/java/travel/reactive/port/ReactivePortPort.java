@@ -0,0 +1,14 @@
+package travel.reactive.port;
+
+import reactor.core.publisher.Mono;
+import travel.model.Port;
+
+/**
+ * Non-blocking counterpart of {@link travel.port.PortPort}.
+ */
+public interface ReactivePortPort {
+    /**
+     * The port with the given name ignoring case, empty when there is none.
+     */
+    Mono<Port> findByName(String name);
+}
@@ -0,0 +1,122 @@
+package travel.reactive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import travel.exception.IncorrectPortNameException;
+import travel.exception.IncompleteQueryException;
+import travel.exception.PastDateException;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.query.FlightSort;
+import travel.query.OneWayFlightQuery;
+import travel.reactive.handler.ReactiveOneWayFlightQueryHandler;
+import travel.reactive.port.ReactiveFlightPort;
+import travel.reactive.port.ReactivePortPort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ReactiveOneWayFlightQueryHandlerTests {
+    private ReactiveOneWayFlightQueryHandler handler;
+    private ReactiveFlightPort flightPort;
+    private ReactivePortPort portPort;
+    private final Port istanbul = Port.builder().id(UUID.randomUUID()).code(1).name("istanbul").build();
+    private final Port ankara = Port.builder().id(UUID.randomUUID()).code(2).name("ankara").build();
+    private final LocalDate day = LocalDate.now().plusDays(3);
+
+    @BeforeEach
+    void init(@Mock ReactiveFlightPort flightPort, @Mock ReactivePortPort portPort) {
+        this.flightPort = flightPort;
+        this.portPort = portPort;
+        handler = new ReactiveOneWayFlightQueryHandler(flightPort, portPort);
+        when(portPort.findByName(anyString())).thenReturn(Mono.empty());
+        when(portPort.findByName("istanbul")).thenReturn(Mono.just(istanbul));
+        when(portPort.findByName("ankara")).thenReturn(Mono.just(ankara));
+        when(flightPort.getAvailableFlights(any(Port.class), any(Port.class), any(LocalDate.class)))
+                .thenReturn(Flux.just(flight(day.atTime(9, 0), 300), flight(day.atTime(12, 0), 100), flight(day.atTime(18, 0), 200)));
+    }
+
+    @Test
+    void givenResult_whenProperQuery() {
+        StepVerifier.create(handler.handle(query("istanbul", "ankara", day).build()))
+                .assertNext(result -> {
+                    assertEquals(istanbul, result.getDeparture());
+                    assertEquals(ankara, result.getArrival());
+                    assertEquals(3, result.getFlightCount());
+                    assertEquals(day.atTime(9, 0), result.getFlights().get(0).getDepartureTime());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void givenPageFromDomainHandler_whenSortAndLimitPassed() {
+        StepVerifier.create(handler.handle(query("istanbul", "ankara", day).sort(FlightSort.PRICE).limit(2).build()))
+                .assertNext(result -> {
+                    assertEquals(2, result.getFlightCount());
+                    assertEquals(100, result.getFlights().get(0).getAmount());
+                    assertNotNull(result.getNextPageToken());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void givenError_whenPortDoesNotExist() {
+        StepVerifier.create(handler.handle(query("istanbul", "izmir", day).build()))
+                .expectError(IncorrectPortNameException.class)
+                .verify();
+        verifyNoInteractions(flightPort);
+    }
+
+    @Test
+    void givenError_whenDateIsPast() {
+        StepVerifier.create(handler.handle(query("istanbul", "ankara", LocalDate.now().minusDays(1)).build()))
+                .expectError(PastDateException.class)
+                .verify();
+        verifyNoInteractions(flightPort, portPort);
+    }
+
+    @Test
+    void givenError_whenPortNameMissing() {
+        var result = handler.handle(query(null, "ankara", day).build());
+
+        StepVerifier.create(result)
+                .expectError(IncompleteQueryException.class)
+                .verify();
+        verifyNoInteractions(flightPort, portPort);
+    }
+
+    private static OneWayFlightQuery.OneWayFlightQueryBuilder query(String departure, String arrival, LocalDate date) {
+        return OneWayFlightQuery.builder()
+                .departurePort(departure)
+                .arrivalPort(arrival)
+                .departureDate(date);
+    }
+
+    private Flight flight(LocalDateTime departureTime, double amount) {
+        return Flight.builder()
+                .id(UUID.randomUUID())
+                .departure(istanbul)
+                .arrival(ankara)
+                .departureTime(departureTime)
+                .amount(amount)
+                .currency("TL")
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package travel.reactive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import travel.exception.IdenticalDepartureAndArrivalException;
+import travel.model.Flight;
+import travel.model.Port;
+import travel.query.TwoWayFlightQuery;
+import travel.reactive.handler.ReactiveTwoWayFlightQueryHandler;
+import travel.reactive.port.ReactiveFlightPort;
+import travel.reactive.port.ReactivePortPort;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ReactiveTwoWayFlightQueryHandlerTests {
+    private ReactiveTwoWayFlightQueryHandler handler;
+    private final Port istanbul = Port.builder().id(UUID.randomUUID()).code(1).name("istanbul").build();
+    private final Port ankara = Port.builder().id(UUID.randomUUID()).code(2).name("ankara").build();
+    private final LocalDate departureDate = LocalDate.now().plusDays(3);
+    private final LocalDate returnDate = LocalDate.now().plusDays(6);
+
+    @BeforeEach
+    void init(@Mock ReactiveFlightPort flightPort, @Mock ReactivePortPort portPort) {
+        handler = new ReactiveTwoWayFlightQueryHandler(flightPort, portPort);
+        when(portPort.findByName("istanbul")).thenReturn(Mono.just(istanbul));
+        when(portPort.findByName("ankara")).thenReturn(Mono.just(ankara));
+        when(flightPort.getRoundTripFlights(any(Port.class), any(Port.class), any(LocalDate.class), any(LocalDate.class))).thenCallRealMethod();
+        when(flightPort.getAvailableFlights(eq(istanbul), eq(ankara), any(LocalDate.class)))
+                .thenReturn(Flux.just(flight(istanbul, ankara, departureDate), flight(istanbul, ankara, departureDate)));
+        when(flightPort.getAvailableFlights(eq(ankara), eq(istanbul), any(LocalDate.class)))
+                .thenReturn(Flux.just(flight(ankara, istanbul, returnDate)));
+    }
+
+    @Test
+    void givenBothLegs_whenProperQuery() {
+        StepVerifier.create(handler.handle(TwoWayFlightQuery.builder()
+                        .departurePort("istanbul")
+                        .arrivalPort("ankara")
+                        .departureDate(departureDate)
+                        .returnDate(returnDate)
+                        .build()))
+                .assertNext(result -> {
+                    assertEquals(2, result.getDepartureFlightCount());
+                    assertEquals(1, result.getReturnFlightCount());
+                    assertEquals(ankara, result.getReturnFlights().get(0).getDeparture());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void givenError_whenPortsIdentical() {
+        StepVerifier.create(handler.handle(TwoWayFlightQuery.builder()
+                        .departurePort("istanbul")
+                        .arrivalPort("istanbul")
+                        .departureDate(departureDate)
+                        .returnDate(returnDate)
+                        .build()))
+                .expectError(IdenticalDepartureAndArrivalException.class)
+                .verify();
+    }
+
+    private static Flight flight(Port departure, Port arrival, LocalDate date) {
+        return Flight.builder()
+                .id(UUID.randomUUID())
+                .departure(departure)
+                .arrival(arrival)
+                .departureTime(date.atTime(10, 0))
+                .amount(150)
+                .currency("TL")
+                .build();
+    }
+}